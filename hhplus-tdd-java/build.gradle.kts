@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,19 +24,46 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.hdrhistogram)
+}
+
+// bootJar / bootRun main class (the ledger export CLI also has a main method)
+springBoot {
+    mainClass.set("io.hhplus.tdd.TddApplication")
 }
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
+}
+
+// benchmark tasks
+// ex) ./gradlew jmh -Pjmh.includes=PointServiceBenchmark -Pjmh.threads=8 -Pjmh.params="distribution=ZIPF;throttled=false"
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+    providers.gradleProperty("jmh.threads").orNull?.let { threads.set(it.toInt()) }
+    providers.gradleProperty("jmh.params").orNull?.let { params ->
+        params.split(";").map { it.split("=", limit = 2) }.forEach { (name, values) ->
+            benchmarkParameters.put(name, objects.listProperty(String::class.java).value(values.split(",")))
+        }
+    }
 }
 
 // bundling tasks
@@ -45,8 +73,37 @@ tasks.getByName("bootJar") {
 tasks.getByName("jar") {
     enabled = false
 }
+// ex) ./gradlew exportLedger -Pledger.log=data/point-history.log -Pledger.out=build/ledger/point-ledger.plx -Pledger.after-id=0
+tasks.register<JavaExec>("exportLedger") {
+    description = "Exports the mapped point history log as a columnar ledger file."
+    group = "application"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("io.hhplus.tdd.point.ledger.PointLedgerExportCommand")
+    args(
+        providers.gradleProperty("ledger.log").getOrElse("data/point-history.log"),
+        providers.gradleProperty("ledger.out").getOrElse(layout.buildDirectory.file("ledger/point-ledger.plx").get().asFile.path),
+        providers.gradleProperty("ledger.after-id").getOrElse("0")
+    )
+}
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+// ex) ./gradlew loadTest
+// ex) ./gradlew loadTest --tests '*PointLoadTest' -Pload.rate=2000 -Pload.duration-seconds=30 -Pload.mix="charge=2,use=2,get=5,history=1"
+tasks.register<Test>("loadTest") {
+    description = "Runs load tests tagged with 'load'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    providers.gradlePropertiesPrefixedBy("load.").get().forEach { (name, value) -> systemProperty(name, value) }
+    systemProperty("load.output-dir", layout.buildDirectory.dir("load-results").get().asFile.path)
+    outputs.upToDateWhen { false }
+    shouldRunAfter(tasks.test)
 }
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 내역 수(historySize)에 따른 PointHistoryRepository.selectAllByUserId 응답 시간을 측정합니다.
+ * - SCAN : PointHistoryTable 처럼 전체 목록을 훑는 저장소
+ * - INDEXED : 유저별 인덱스를 사용하는 저장소
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryBenchmark {
+
+    public enum Store {
+        SCAN, INDEXED
+    }
+
+    @Param({"SCAN", "INDEXED"})
+    public Store store;
+
+    @Param({"10000", "100000", "1000000"})
+    public int historySize;
+
+    @Param({"1000"})
+    public int userCount;
+
+    @Param({"UNIFORM", "ZIPF"})
+    public UserKeyDistribution distribution;
+
+    private PointHistoryRepository repository;
+    private UserKeyDistribution.Sampler sampler;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UnthrottledPointHistoryRepository table = new UnthrottledPointHistoryRepository();
+        repository = store == Store.INDEXED ? new IndexedPointHistoryRepository(table) : table;
+        sampler = distribution.sampler(userCount);
+
+        // 내역도 같은 분포로 쌓아 hot key 유저의 내역이 더 길어지도록 합니다.
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < historySize; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            repository.insert(sampler.next(random), 1000L, type, i);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> selectAllByUserId(ThreadState state) {
+        return repository.selectAllByUserId(sampler.next(state.random));
+    }
+}
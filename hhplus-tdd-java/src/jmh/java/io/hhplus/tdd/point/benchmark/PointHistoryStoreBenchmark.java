@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역 저장소별 힙 사용량과 유저별 조회 응답 시간을 비교합니다.
+ * - INDEXED_TABLE : 현재 기본 구성 (PointHistoryTable 방식의 목록 + 유저별 인덱스)
+ * - MAPPED : 메모리 매핑 파일 + 유저별 ID 인덱스
+ *
+ * 힙 사용량은 Setup 에서 GC 후 적재 전/후의 사용량 차이로 계산해 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryStoreBenchmark {
+
+    public enum Store {
+        INDEXED_TABLE, MAPPED
+    }
+
+    @Param({"INDEXED_TABLE", "MAPPED"})
+    public Store store;
+
+    @Param({"1000000", "10000000"})
+    public int historySize;
+
+    @Param({"10000"})
+    public int userCount;
+
+    @Param({"ZIPF"})
+    public UserKeyDistribution distribution;
+
+    private PointHistoryRepository repository;
+    private UserKeyDistribution.Sampler sampler;
+    private Path file;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        sampler = distribution.sampler(userCount);
+        long heapBefore = usedHeap();
+
+        if (store == Store.MAPPED) {
+            file = Files.createTempFile("point-history", ".log");
+            repository = new MappedPointHistoryRepository(file);
+        }
+        else {
+            repository = new IndexedPointHistoryRepository(new UnthrottledPointHistoryRepository());
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < historySize; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            repository.insert(sampler.next(random), 1000L, type, i);
+        }
+
+        long retained = usedHeap() - heapBefore;
+        System.out.printf("%n[%s] retained heap for %,d histories: %.1f MB (%.1f bytes/history)%n",
+                store, historySize, retained / 1024.0 / 1024.0, (double) retained / historySize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (repository instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        repository = null;
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> selectAllByUserId(ThreadState state) {
+        return repository.selectAllByUserId(sampler.next(state.random));
+    }
+
+    @Benchmark
+    public List<PointHistory> selectFirstPage(ThreadState state) {
+        return repository.selectByUserIdAfter(sampler.next(state.random), 0L, null, 20);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.recovery.BalanceRecovery;
+import io.hhplus.tdd.point.recovery.BalanceSnapshot;
+import io.hhplus.tdd.point.recovery.BalanceSnapshotFile;
+import io.hhplus.tdd.point.recovery.HistoryReplayer;
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재시작 시 잔액 복구에 걸리는 시간을 잽니다.
+ * - startup : 내역 파일을 열고(유저별 인덱스 재구성 포함) 잔액을 복구하는 전체 시간
+ * - recoverBalances : 이미 열린 내역 파일로 잔액만 복구하는 시간
+ * - snapshot NONE 은 내역 전체를, LATEST 는 마지막 1% 만 다시 적용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class PointRecoveryBenchmark {
+
+    public enum Snapshot {
+        NONE, LATEST
+    }
+
+    @Param({"1000000", "10000000"})
+    public int historySize;
+
+    @Param({"100000"})
+    public int userCount;
+
+    @Param({"NONE", "LATEST"})
+    public Snapshot snapshot;
+
+    private Path directory;
+    private Path logPath;
+    private BalanceSnapshotFile snapshotFile;
+    private MappedPointHistoryRepository historyLog;
+    private final int parallelism = Runtime.getRuntime().availableProcessors();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-recovery");
+        logPath = directory.resolve("point-history.log");
+        snapshotFile = new BalanceSnapshotFile(directory.resolve("point-balance.snapshot"));
+
+        int covered = snapshot == Snapshot.LATEST ? historySize - historySize / 100 : 0;
+        try (MappedPointHistoryRepository writer = new MappedPointHistoryRepository(logPath)) {
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < historySize; i++) {
+                if (i == covered && covered > 0) {
+                    snapshotFile.save(HistoryReplayer.replay(BalanceSnapshot.empty(), writer, parallelism));
+                }
+                TransactionType type = i % 3 == 2 ? TransactionType.USE : TransactionType.CHARGE;
+                writer.insert(random.nextInt(userCount), 1000L, type, i);
+            }
+        }
+        historyLog = new MappedPointHistoryRepository(logPath);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        historyLog.close();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public BalanceSnapshot startup() throws IOException {
+        try (MappedPointHistoryRepository reopened = new MappedPointHistoryRepository(logPath)) {
+            return BalanceRecovery.recover(reopened, snapshotFile, parallelism);
+        }
+    }
+
+    @Benchmark
+    public BalanceSnapshot recoverBalances() {
+        return BalanceRecovery.recover(historyLog, snapshotFile, parallelism);
+    }
+}
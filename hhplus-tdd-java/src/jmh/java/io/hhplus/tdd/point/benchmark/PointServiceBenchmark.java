@@ -0,0 +1,131 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.admission.PointAdmission;
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.engine.CombiningPointCommandEngine;
+import io.hhplus.tdd.point.engine.LockingPointCommandEngine;
+import io.hhplus.tdd.point.engine.OptimisticPointCommandEngine;
+import io.hhplus.tdd.point.engine.PointCommandEngine;
+import io.hhplus.tdd.point.engine.PointLedger;
+import io.hhplus.tdd.point.engine.ShardedPointCommandEngine;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.repository.CachingUserPointRepository;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.repository.VersionedUserPointStore;
+import io.hhplus.tdd.point.repository.WriteBehindPointHistoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 의 충전/사용/조회 처리량을 측정합니다.
+ * 기본 설정(application.yml)과 같은 계층(캐시, 인덱스, write-behind)을 조립하며,
+ * throttled=false 이면 테이블 대신 throttle 이 없는 저장소를 사용해 코드 자체의 비용만 측정합니다.
+ * mode 로 충전/사용을 실행하는 방식(point.concurrency.mode)을 바꿔 비교합니다.
+ *
+ * 충전/사용마다 내역이 쌓이므로 iteration 마다 저장소를 새로 만들고 iteration 시간을 짧게 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(time = 1)
+@Measurement(time = 1)
+public class PointServiceBenchmark {
+
+    private static final long INITIAL_POINT = 1_000_000_000_000L;
+
+    @Param({"false"})
+    public boolean throttled;
+
+    @Param({"UNIFORM", "ZIPF"})
+    public UserKeyDistribution distribution;
+
+    @Param({"1000"})
+    public int userCount;
+
+    @Param({"LOCK", "SHARDED", "COMBINING", "OPTIMISTIC"})
+    public PointProperties.Mode mode;
+
+    private PointService pointService;
+    private PointCommandEngine pointCommandEngine;
+    private PointExecutors pointExecutors;
+    private WriteBehindPointHistoryRepository writeBehind;
+    private UserKeyDistribution.Sampler sampler;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        UserPointRepository userPointRepository = new CachingUserPointRepository(
+                throttled ? new UserPointRepositoryImpl() : new UnthrottledUserPointRepository(), 10_000);
+        PointHistoryRepository pointHistoryStore = new IndexedPointHistoryRepository(
+                throttled ? new PointHistoryRepositoryImpl() : new UnthrottledPointHistoryRepository());
+        writeBehind = new WriteBehindPointHistoryRepository(pointHistoryStore, 10_000, 0L);
+
+        for (long id = 1; id <= userCount; id++) {
+            userPointRepository.insertOrUpdate(id, INITIAL_POINT);
+        }
+
+        PointProperties properties = new PointProperties();
+        PointLedger pointLedger = new PointLedger(userPointRepository, writeBehind);
+        pointExecutors = new PointExecutors(properties, new StandardEnvironment());
+        pointCommandEngine = switch (mode) {
+            case LOCK -> new LockingPointCommandEngine(new UserLockManager(), pointLedger, pointExecutors);
+            case SHARDED -> new ShardedPointCommandEngine(pointLedger, properties);
+            case COMBINING -> new CombiningPointCommandEngine(new UserLockManager(), pointLedger, pointExecutors);
+            case OPTIMISTIC -> new OptimisticPointCommandEngine(new VersionedUserPointStore(userPointRepository),
+                    pointLedger, pointExecutors, properties.getConcurrency().getOptimistic(), null);
+        };
+        pointService = new PointService(userPointRepository, writeBehind, pointCommandEngine,
+                new IdempotencyStore(properties), pointExecutors, PointAdmission.unlimited());
+        sampler = distribution.sampler(userCount);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        if (pointCommandEngine instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        pointExecutors.shutdown();
+        writeBehind.close();
+    }
+
+    @Benchmark
+    public UserPoint chargePoint(ThreadState state) {
+        return pointService.chargePoint(sampler.next(state.random), 1000L);
+    }
+
+    @Benchmark
+    public UserPoint usePoint(ThreadState state) {
+        return pointService.usePoint(sampler.next(state.random), 100L);
+    }
+
+    @Benchmark
+    public UserPoint getUserPointById(ThreadState state) {
+        return pointService.getUserPointById(sampler.next(state.random));
+    }
+}
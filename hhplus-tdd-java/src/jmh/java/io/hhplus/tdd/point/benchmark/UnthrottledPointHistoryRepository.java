@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PointHistoryTable 과 같은 동작(전체 목록을 훑는 조회)을 throttle 없이 수행하는 벤치마크용 저장소
+ */
+public class UnthrottledPointHistoryRepository implements PointHistoryRepository {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private long cursor = 1;
+
+    @Override
+    public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+        table.add(pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public synchronized List<PointHistory> selectAllByUserId(long userId) {
+        return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+    }
+}
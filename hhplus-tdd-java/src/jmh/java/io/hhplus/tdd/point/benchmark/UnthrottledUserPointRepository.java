@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UserPointTable 과 같은 동작을 throttle 없이 수행하는 벤치마크용 저장소
+ */
+public class UnthrottledUserPointRepository implements UserPointRepository {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크에서 요청할 유저 ID 의 분포
+ * - UNIFORM : 모든 유저가 같은 확률로 선택
+ * - ZIPF : 소수의 유저(hot key)에 요청이 몰리는 분포 (exponent 1.1)
+ */
+public enum UserKeyDistribution {
+    UNIFORM, ZIPF;
+
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    public Sampler sampler(int userCount) {
+        return this == UNIFORM ? random -> random.nextInt(userCount) + 1L : new ZipfSampler(userCount);
+    }
+
+    @FunctionalInterface
+    public interface Sampler {
+        long next(SplittableRandom random);
+    }
+
+    // 누적 확률 테이블을 만들어두고 이진 탐색으로 유저를 고릅니다. (1번 유저가 가장 자주 선택됩니다.)
+    private static final class ZipfSampler implements Sampler {
+        private final double[] cumulative;
+
+        private ZipfSampler(int userCount) {
+            cumulative = new double[userCount];
+            double sum = 0;
+            for (int rank = 1; rank <= userCount; rank++) {
+                sum += 1.0 / Math.pow(rank, ZIPF_EXPONENT);
+                cumulative[rank - 1] = sum;
+            }
+            for (int i = 0; i < userCount; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        @Override
+        public long next(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return Math.min(index, cumulative.length - 1) + 1L;
+        }
+    }
+}
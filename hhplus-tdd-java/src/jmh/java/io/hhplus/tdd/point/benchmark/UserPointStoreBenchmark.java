@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 저장소별 힙 사용량과 조회/저장 처리량을 비교합니다.
+ * - MAP : 현재 UserPointTable 방식 (Long → UserPoint 해시 맵, throttle 없음)
+ * - PRIMITIVE : long 배열 기반 open addressing 테이블
+ *
+ * 힙 사용량은 Setup 에서 GC 후 적재 전/후의 사용량 차이로 계산해 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserPointStoreBenchmark {
+
+    public enum Store {
+        MAP, PRIMITIVE
+    }
+
+    @Param({"MAP", "PRIMITIVE"})
+    public Store store;
+
+    @Param({"1000000", "10000000"})
+    public int userCount;
+
+    private UserPointRepository repository;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long heapBefore = usedHeap();
+
+        repository = store == Store.MAP ? new UnthrottledUserPointRepository() : new PrimitiveUserPointRepository();
+        for (long id = 0; id < userCount; id++) {
+            repository.insertOrUpdate(id, 1000L);
+        }
+
+        long retained = usedHeap() - heapBefore;
+        System.out.printf("%n[%s] retained heap for %,d users: %.1f MB (%.1f bytes/user)%n",
+                store, userCount, retained / 1024.0 / 1024.0, (double) retained / userCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        repository = null;
+    }
+
+    @Benchmark
+    public UserPoint selectById(ThreadState state) {
+        return repository.selectById((long) state.random.nextInt(userCount));
+    }
+
+    @Benchmark
+    public UserPoint insertOrUpdate(ThreadState state) {
+        return repository.insertOrUpdate(state.random.nextInt(userCount), 2000L);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -1,6 +1,9 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.Exception.ConcurrentUpdateException;
 import io.hhplus.tdd.Exception.InsufficientPointsException;
+import io.hhplus.tdd.Exception.MisdirectedRequestException;
+import io.hhplus.tdd.Exception.TooManyRequestsException;
 import io.hhplus.tdd.Exception.UserNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,6 +12,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
 @RestControllerAdvice
 public class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     private static final Logger logger = LoggerFactory.getLogger(ApiControllerAdvice.class);
@@ -26,6 +32,31 @@ public class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     public ResponseEntity<ErrorResponse> handleInsufficientPointsException(InsufficientPointsException e){
         return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
     }
+
+    @ExceptionHandler(value = ConcurrentUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdateException(ConcurrentUpdateException e){
+        return ResponseEntity.status(409).body(new ErrorResponse("409", e.getMessage()));
+    }
+    // 유저별 요청 제한에 걸린 경우 (락을 기다리지 않고 바로 거절합니다)
+    @ExceptionHandler(value = TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e){
+        return ResponseEntity.status(429).header("Retry-After", "1").body(new ErrorResponse("429", e.getMessage()));
+    }
+    // 여러 유저를 다루는 요청에 다른 노드가 맡은 유저가 섞인 경우 (요청을 처리하지 않았으므로 유저별로 담당 노드에 다시 보내면 됩니다)
+    @ExceptionHandler(value = MisdirectedRequestException.class)
+    public ResponseEntity<ErrorResponse> handleMisdirectedRequestException(MisdirectedRequestException e){
+        return ResponseEntity.status(421).body(new ErrorResponse("421", e.getMessage()));
+    }
+    // 비동기 API 가 제한 시간 안에 끝나지 않은 경우 (연산은 계속 진행될 수 있습니다)
+    @ExceptionHandler(value = TimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleTimeoutException(TimeoutException e){
+        return ResponseEntity.status(503).body(new ErrorResponse("503", "Request timed out. Retry with the same Idempotency-Key."));
+    }
+    // 비동기 API 의 request 풀 대기열이 가득 찬 경우 (작업을 시작하지 않았으므로 그대로 재시도해도 됩니다)
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException e){
+        return ResponseEntity.status(503).header("Retry-After", "1").body(new ErrorResponse("503", "Server is busy. Retry later."));
+    }
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException ex) {
         return ResponseEntity.badRequest().body(ex.getMessage());
@@ -0,0 +1,7 @@
+package io.hhplus.tdd.Exception;
+
+public class ConcurrentUpdateException extends RuntimeException {
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+}
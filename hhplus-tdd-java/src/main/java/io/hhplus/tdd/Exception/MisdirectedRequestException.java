@@ -0,0 +1,7 @@
+package io.hhplus.tdd.Exception;
+
+public class MisdirectedRequestException extends RuntimeException {
+    public MisdirectedRequestException(String message) {
+        super(message);
+    }
+}
@@ -1,14 +1,32 @@
 package io.hhplus.tdd.point;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.dto.PointBatchRequest;
 import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointLookupRequest;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
 import io.hhplus.tdd.point.dto.PointRequest;
+import io.hhplus.tdd.point.dto.PointSummary;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.dto.UserPointLookup;
+import io.hhplus.tdd.point.routing.PointRing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/point")
@@ -16,10 +34,17 @@ public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     PointService pointService;
+    ObjectMapper objectMapper;
+    ObjectProvider<PointRing> pointRing;  // point.cluster.enabled 가 true 일 때만 있습니다.
     @Autowired
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, ObjectMapper objectMapper, ObjectProvider<PointRing> pointRing) {
         this.pointService = pointService;
+        this.objectMapper = objectMapper;
+        this.pointRing = pointRing;
     }
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -32,44 +57,199 @@ public class PointController {
         return userPoint;
     }
 
+    /**
+     * 여러 유저의 포인트를 한 번에 조회합니다. (ex. GET /point?ids=1,2,3)
+     * 유저 ID 별 결과를 요청 순서대로 반환하며, 찾지 못한 유저는 found 가 false 입니다.
+     * 클러스터에서는 이 노드가 맡은 유저만 조회할 수 있고, 다른 노드의 유저가 섞여 있으면 421 로 응답합니다.
+     */
+    @GetMapping(params = "ids")
+    public Map<Long, UserPointLookup> points(
+            @RequestParam List<Long> ids
+    ) {
+        checkLocal(ids);
+        return pointService.getUserPoints(ids);
+    }
+
+    /**
+     * ID 가 많아 URL 에 담기 어려울 때 쓰는 여러 유저 포인트 조회입니다.
+     */
+    @PostMapping("lookup")
+    public Map<Long, UserPointLookup> lookup(
+            @RequestBody PointLookupRequest request
+    ) {
+        checkLocal(request.ids());
+        return pointService.getUserPoints(request.ids());
+    }
+
+    /**
+     * 포인트 조회의 비동기 버전입니다. 조회는 request 풀에서 실행되고, 그동안 요청 스레드는 반환됩니다.
+     */
+    @GetMapping("{id}/async")
+    public CompletableFuture<UserPoint> pointAsync(
+            @PathVariable long id
+    ) {
+        return pointService.getUserPointByIdAsync(id);
+    }
+
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * from, to(epoch millis)를 보내면 그 기간(from 이상, to 미만)의 내역만 시간 순서대로 조회합니다. 한쪽만 보내면 다른 쪽은 열려 있습니다.
      */
     @GetMapping("{id}/histories")
     public List<PointHistory> history(
-            @PathVariable long id
+            @PathVariable long id,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
     ) {
         if (id < 0) {
             throw new IllegalArgumentException("ID must be a positive number.");
         }
 
+        if (from != null || to != null) {
+            return pointService.getUserPointHistoriesBetween(id, from == null ? 0L : from, to == null ? Long.MAX_VALUE : to);
+        }
+
         List<PointHistory> pointHistories = pointService.getUserPointHistories(id);
         return pointHistories;
     }
 
+    /**
+     * 유저의 충전/사용 합계와 건수를 조회합니다. 내역을 내려받지 않고 미리 계산된 합계를 돌려줍니다.
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
+            @PathVariable long id
+    ) {
+        if (id < 0) {
+            throw new IllegalArgumentException("ID must be a positive number.");
+        }
+
+        return pointService.getUserPointSummary(id);
+    }
+
+    /**
+     * 포인트 내역을 ID 순서대로 limit 개씩 조회합니다.
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회하고, type 을 지정하면 해당 종류만 조회합니다.
+     */
+    @GetMapping("{id}/histories/page")
+    public PointHistoryPage historyPage(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "0") long cursor,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        if (id < 0) {
+            throw new IllegalArgumentException("ID must be a positive number.");
+        }
+
+        return pointService.getUserPointHistoryPage(id, cursor, type, limit);
+    }
+
+    /**
+     * 포인트 내역 전체를 한 줄에 하나씩 JSON 으로 내려줍니다. (NDJSON)
+     * 목록을 만들지 않고 읽는 대로 응답에 쓰므로 내역 수와 상관없이 요청당 메모리 사용량이 일정합니다.
+     */
+    @GetMapping("{id}/histories/stream")
+    public ResponseEntity<StreamingResponseBody> historyStream(
+            @PathVariable long id,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        if (id < 0) {
+            throw new IllegalArgumentException("ID must be a positive number.");
+        }
+
+        StreamingResponseBody body = outputStream -> pointService.forEachUserPointHistory(id, type, pointHistory -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(pointHistory));
+                outputStream.write('\n');
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 한 번만 충전됩니다.
      */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable long id,
-            @RequestBody PointRequest request
+            @RequestBody PointRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
     ) {
-        UserPoint userPoint = pointService.chargePoint(id, request.amount());
+        UserPoint userPoint = idempotencyKey == null
+                ? pointService.chargePoint(id, request.amount())
+                : pointService.chargePoint(id, request.amount(), idempotencyKey);
 
         return userPoint;
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 한 번만 사용됩니다.
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable long id,
-            @RequestBody PointRequest request
+            @RequestBody PointRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
     ) {
-        UserPoint userPoint = pointService.usePoint(id, request.amount());
+        UserPoint userPoint = idempotencyKey == null
+                ? pointService.usePoint(id, request.amount())
+                : pointService.usePoint(id, request.amount(), idempotencyKey);
 
         return userPoint;
     }
+
+    /**
+     * 충전/사용의 비동기 버전입니다. 연산은 request 풀에서 실행되고, 그동안 요청 스레드는 반환됩니다.
+     * 제한 시간(point.executor.request-timeout-millis)을 넘으면 503 으로 응답하지만 연산은 계속 진행될 수 있습니다.
+     */
+    @PatchMapping("{id}/charge/async")
+    public CompletableFuture<UserPoint> chargeAsync(
+            @PathVariable long id,
+            @RequestBody PointRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+    ) {
+        return idempotencyKey == null
+                ? pointService.chargePointAsync(id, request.amount())
+                : pointService.chargePointAsync(id, request.amount(), idempotencyKey);
+    }
+
+    @PatchMapping("{id}/use/async")
+    public CompletableFuture<UserPoint> useAsync(
+            @PathVariable long id,
+            @RequestBody PointRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+    ) {
+        return idempotencyKey == null
+                ? pointService.usePointAsync(id, request.amount())
+                : pointService.usePointAsync(id, request.amount(), idempotencyKey);
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용 요청을 한 번에 처리합니다.
+     * 연산별 결과를 요청 순서대로 반환하며, 일부 연산이 실패해도 나머지는 처리됩니다.
+     * 클러스터에서는 다른 노드가 맡은 유저의 연산이 하나라도 있으면 아무 연산도 처리하지 않고 421 로 응답합니다.
+     */
+    @PostMapping("batch")
+    public List<PointOperationResult> batch(
+            @RequestBody PointBatchRequest request
+    ) {
+        if (request.operations() != null) {
+            checkLocal(request.operations().stream().filter(Objects::nonNull).map(PointOperation::userId).toList());
+        }
+        return pointService.applyBatch(request.operations());
+    }
+
+    private void checkLocal(List<Long> userIds) {
+        if (userIds == null) {
+            return;
+        }
+        pointRing.ifAvailable(ring -> ring.checkLocal(userIds));
+    }
 }
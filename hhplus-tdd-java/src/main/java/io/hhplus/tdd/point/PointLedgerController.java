@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.ledger.LedgerTrailer;
+import io.hhplus.tdd.point.ledger.PointLedgerExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/point/ledger")
+public class PointLedgerController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLedgerController.class);
+
+    private final PointLedgerExporter pointLedgerExporter;
+
+    public PointLedgerController(PointLedgerExporter pointLedgerExporter) {
+        this.pointLedgerExporter = pointLedgerExporter;
+    }
+
+    /**
+     * 포인트 내역 전체(afterId 를 보내면 그 이후)를 컬럼 단위로 압축한 원장 파일로 내려줍니다.
+     * 파일 끝의 lastId 를 다음 요청의 afterId 로 넘기면 이어서 내려받습니다. (형식은 PointLedgerFormat 참고)
+     */
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "0") long afterId
+    ) {
+        if (afterId < 0) {
+            throw new IllegalArgumentException("afterId must not be negative.");
+        }
+        // 200 응답을 보낸 뒤에는 상태 코드를 바꿀 수 없으므로 본문을 쓰기 전에 확인합니다.
+        pointLedgerExporter.checkAvailable();
+
+        StreamingResponseBody body = outputStream -> {
+            LedgerTrailer trailer = pointLedgerExporter.export(afterId, outputStream);
+            log.info("Exported {} point histories after id {} (last id {}).", trailer.rows(), afterId, trailer.lastId());
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"point-ledger-" + afterId + ".plx\"")
+                .body(body);
+    }
+}
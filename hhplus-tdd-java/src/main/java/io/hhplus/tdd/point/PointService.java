@@ -1,27 +1,55 @@
 package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.Exception.InsufficientPointsException;
+import io.hhplus.tdd.Exception.TooManyRequestsException;
 import io.hhplus.tdd.Exception.UserNotFoundException;
 import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.PointSummary;
+import io.hhplus.tdd.point.admission.PointAdmission;
+import io.hhplus.tdd.point.config.PointExecutors;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.dto.UserPointLookup;
+import io.hhplus.tdd.point.engine.PointCommandEngine;
+import io.hhplus.tdd.point.engine.PointLedger;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 @Slf4j
 @AllArgsConstructor
 public class PointService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_PAGE_SIZE = 500;
+    private static final int MAX_LOOKUP_SIZE = 10_000;
+
     private final UserPointRepository userPointRepository;
     private final PointHistoryRepository pointHistoryRepository;
 
-    private final ReentrantLock lock = new ReentrantLock();  // 동시성 제어를 위한 Lock
+    private final PointCommandEngine pointCommandEngine;  // 같은 유저의 충전/사용이 겹치지 않도록 실행 (point.concurrency.mode)
+    private final IdempotencyStore idempotencyStore;      // Idempotency-Key 별 충전/사용 결과
+    private final PointExecutors pointExecutors;          // 비동기 API 를 실행하는 request 풀과 제한 시간
+    private final PointAdmission pointAdmission;          // 유저별 충전/사용 요청 제한 (넘치면 락을 기다리지 않고 429)
 
     // 포인트 조회
 
@@ -36,6 +64,49 @@ public class PointService {
         return userPoint;
     }
 
+    // 요청 스레드를 붙잡지 않도록 request 풀에서 조회합니다. 제한 시간이 지나면 TimeoutException 으로 완료됩니다.
+
+    public CompletableFuture<UserPoint> getUserPointByIdAsync(long id) {
+        return withRequestTimeout(CompletableFuture.supplyAsync(() -> getUserPointById(id), pointExecutors.request()));
+    }
+
+    // 여러 유저의 잔액을 lookup 풀에서 동시에 조회하므로, 전체 응답 시간은 가장 느린 조회 하나에 가깝습니다.
+    // 중복된 ID 는 한 번만 조회하고, 결과는 처음 요청된 순서대로 담습니다.
+    // 저장소는 없는 유저도 잔액 0 으로 돌려주므로, 잔액이 0 이고 내역도 없는 유저를 찾지 못한 유저(found=false)로 봅니다.
+
+    public Map<Long, UserPointLookup> getUserPoints(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("IDs must not be empty.");
+        }
+
+        LinkedHashSet<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > MAX_LOOKUP_SIZE) {
+            throw new IllegalArgumentException("IDs must not exceed " + MAX_LOOKUP_SIZE + ".");
+        }
+        for (Long id : uniqueIds) {
+            if (id == null || id < 0) {
+                throw new IllegalArgumentException("ID must be a positive number.");
+            }
+        }
+
+        Map<Long, CompletableFuture<UserPointLookup>> lookups = new LinkedHashMap<>();
+        for (long id : uniqueIds) {
+            lookups.put(id, CompletableFuture.supplyAsync(() -> lookup(id), pointExecutors.lookup()));
+        }
+
+        Map<Long, UserPointLookup> results = new LinkedHashMap<>();
+        lookups.forEach((id, lookup) -> results.put(id, join(lookup)));
+        return results;
+    }
+
+    private UserPointLookup lookup(long id) {
+        UserPoint userPoint = userPointRepository.selectById(id);
+        if (userPoint == null || (userPoint.point() == 0 && pointHistoryRepository.selectByUserIdAfter(id, 0L, null, 1).isEmpty())) {
+            return UserPointLookup.notFound();
+        }
+        return UserPointLookup.found(userPoint);
+    }
+
     //포인트 충전, 사용 히스토리 조회
 
     public List<PointHistory> getUserPointHistories(long id) throws UserNotFoundException, IllegalArgumentException {
@@ -48,67 +119,229 @@ public class PointService {
         return userPointList;
     }
 
-    //포인트 충전
+    //포인트 충전, 사용 히스토리 기간 조회 (updateMillis 가 fromMillis 이상, toMillis 미만)
 
-    public UserPoint chargePoint(long id, long amount) throws UserNotFoundException {
-        lock.lock();  // 자원에 대한 잠금
-        try {
-            if (amount <= 0) {
-                throw new IllegalArgumentException("Amount must be greater than zero.");
-            }
+    public List<PointHistory> getUserPointHistoriesBetween(long id, long fromMillis, long toMillis) {
+        if (fromMillis < 0 || toMillis < fromMillis) {
+            throw new IllegalArgumentException("Time range must satisfy 0 <= from <= to.");
+        }
 
-            if (amount < 1000) {
-                throw new IllegalArgumentException("Amount must be more than 1000.");
-            }
+        return pointHistoryRepository.selectByUserIdBetween(id, fromMillis, toMillis);
+    }
+
+    //포인트 충전, 사용 합계 조회 (내역을 저장할 때마다 갱신된 합계를 유저 락 없이 읽습니다)
 
-            UserPoint userPoint = userPointRepository.selectById(id);
-            UserPoint updatedPoint = userPointRepository.insertOrUpdate(id, userPoint.point() + amount);
+    public PointSummary getUserPointSummary(long id) {
+        return pointHistoryRepository.summarize(id);
+    }
 
-            pointHistoryRepository.insert(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
+    //포인트 충전, 사용 히스토리 커서 조회
 
-            log.info(pointHistoryRepository.selectAllByUserId(id).toString()); //검증
+    public PointHistoryPage getUserPointHistoryPage(long id, long cursor, TransactionType type, int limit) {
+        if (cursor < 0) {
+            throw new IllegalArgumentException("Cursor must not be negative.");
+        }
 
-            return updatedPoint;
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE + ".");
         }
-        finally {
-            lock.unlock();
+
+        List<PointHistory> histories = pointHistoryRepository.selectByUserIdAfter(id, cursor, type, limit);
+        Long nextCursor = histories.size() < limit ? null : histories.get(histories.size() - 1).id();
+
+        return new PointHistoryPage(histories, nextCursor);
+    }
+
+    // 내역을 페이지 단위로 읽어 순서대로 넘겨주므로, 내역이 아무리 많아도 한 번에 STREAM_PAGE_SIZE 개만 메모리에 올립니다.
+
+    public void forEachUserPointHistory(long id, TransactionType type, Consumer<PointHistory> action) {
+        long cursor = 0L;
+        while (true) {
+            List<PointHistory> histories = pointHistoryRepository.selectByUserIdAfter(id, cursor, type, STREAM_PAGE_SIZE);
+            histories.forEach(action);
+
+            if (histories.size() < STREAM_PAGE_SIZE) {
+                return;
+            }
+            cursor = histories.get(histories.size() - 1).id();
         }
     }
 
+    //포인트 충전
+
+    public UserPoint chargePoint(long id, long amount) throws UserNotFoundException {
+        return join(charge(id, amount));
+    }
+
+    // 같은 idempotencyKey 로 이미 처리했거나 처리 중인 요청이면 다시 실행하지 않고 그 결과를 돌려줍니다.
+    public UserPoint chargePoint(long id, long amount, String idempotencyKey) {
+        return join(idempotencyStore.execute(idempotencyKey, new PointOperation(id, TransactionType.CHARGE, amount),
+                () -> charge(id, amount)));
+    }
+
+    // 요청 스레드를 붙잡지 않도록 request 풀에서 충전합니다.
+    // 제한 시간이 지나 TimeoutException 으로 완료되어도 충전은 계속 진행될 수 있으므로, 재시도는 Idempotency-Key 와 함께 보내야 합니다.
+    public CompletableFuture<UserPoint> chargePointAsync(long id, long amount) {
+        PointLedger.validateChargeAmount(amount);
+
+        return withRequestTimeout(executeAsync(new PointOperation(id, TransactionType.CHARGE, amount)));
+    }
+
+    public CompletableFuture<UserPoint> chargePointAsync(long id, long amount, String idempotencyKey) {
+        PointLedger.validateChargeAmount(amount);
+
+        PointOperation operation = new PointOperation(id, TransactionType.CHARGE, amount);
+        return withRequestTimeout(idempotencyStore.execute(idempotencyKey, operation, () -> executeAsync(operation)));
+    }
+
+    private CompletableFuture<UserPoint> charge(long id, long amount) {
+        PointLedger.validateChargeAmount(amount);
+
+        return execute(new PointOperation(id, TransactionType.CHARGE, amount));
+    }
+
 
 
     //포인트 사용
 
     public UserPoint usePoint(long id, long amount) throws UserNotFoundException, InsufficientPointsException {
-        lock.lock();  // 자원에 대한 잠금
+        return join(use(id, amount));
+    }
+
+    public UserPoint usePoint(long id, long amount, String idempotencyKey) {
+        return join(idempotencyStore.execute(idempotencyKey, new PointOperation(id, TransactionType.USE, amount),
+                () -> use(id, amount)));
+    }
+
+    public CompletableFuture<UserPoint> usePointAsync(long id, long amount) {
+        PointLedger.validateUseAmount(amount);
+
+        return withRequestTimeout(executeAsync(new PointOperation(id, TransactionType.USE, amount)));
+    }
+
+    public CompletableFuture<UserPoint> usePointAsync(long id, long amount, String idempotencyKey) {
+        PointLedger.validateUseAmount(amount);
+
+        PointOperation operation = new PointOperation(id, TransactionType.USE, amount);
+        return withRequestTimeout(idempotencyStore.execute(idempotencyKey, operation, () -> executeAsync(operation)));
+    }
+
+    private CompletableFuture<UserPoint> use(long id, long amount) {
+        PointLedger.validateUseAmount(amount);
+
+        return execute(new PointOperation(id, TransactionType.USE, amount));
+    }
+
+    // 요청 제한을 통과한 연산만 엔진에 넘기고, 연산이 끝나면 자리를 돌려줍니다.
+    private CompletableFuture<UserPoint> execute(PointOperation operation) throws TooManyRequestsException {
+        return admitted(operation.userId(), () -> pointCommandEngine.execute(operation));
+    }
+
+    // 요청 제한은 request 풀에 넣기 전에 확인하므로, 거절된 요청은 풀의 스레드나 대기열을 쓰지 않습니다.
+    private CompletableFuture<UserPoint> executeAsync(PointOperation operation) throws TooManyRequestsException {
+        return admitted(operation.userId(), () -> onRequestPool(() -> pointCommandEngine.execute(operation)));
+    }
+
+    private <T> CompletableFuture<T> admitted(long id, Supplier<CompletableFuture<T>> task) {
+        return admitted(id, 1, task);
+    }
+
+    private <T> CompletableFuture<T> admitted(long id, int operations, Supplier<CompletableFuture<T>> task) {
+        PointAdmission.Permit permit = pointAdmission.acquire(id, operations);
+
+        CompletableFuture<T> future;
         try {
-            if (amount <= 0) {
-                throw new IllegalArgumentException("Amount must be greater than zero.");
-            }
+            future = task.get();
+        }
+        catch (RuntimeException | Error e) {
+            permit.release();
+            throw e;
+        }
+        future.whenComplete((result, failure) -> permit.release());
+        return future;
+    }
+
+    //포인트 일괄 충전/사용
 
-            if (amount > 5000) {
-                throw new IllegalArgumentException("Amount must be less than 5000.");
+    public List<PointOperationResult> applyBatch(List<PointOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("Operations must not be empty.");
+        }
+
+        // 유저별로 요청 순서를 유지한 채 묶기
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int index = 0; index < operations.size(); index++) {
+            PointOperation operation = operations.get(index);
+            if (operation == null) {
+                throw new IllegalArgumentException("Operation must not be null.");
             }
+            indexesByUser.computeIfAbsent(operation.userId(), id -> new ArrayList<>()).add(index);
+        }
 
-            UserPoint userPoint = userPointRepository.selectById(id);
+        // 유저별로 엔진에 맡기고, 각 유저의 결과는 결과 배열의 서로 다른 칸만 채웁니다.
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        CompletableFuture<?>[] futures = indexesByUser.entrySet().stream()
+                .map(entry -> applyUserOperations(entry.getKey(), entry.getValue(), operations, results))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
 
-            if (userPoint.hasInsufficientPoint(amount)) {
-                log.error("User doesn't have enough charging points.");
+        return List.of(results);
+    }
+
+    private CompletableFuture<Void> applyUserOperations(long userId, List<Integer> indexes, List<PointOperation> operations, PointOperationResult[] results) {
+        List<PointOperation> userOperations = indexes.stream().map(operations::get).toList();
 
-                throw new InsufficientPointsException("User doesn't have enough charging points.");
+        // 유저마다 연산 수만큼 토큰을 쓰고 실행 중인 자리 하나를 차지합니다. 제한에 걸린 유저의 연산은 실행하지 않고 실패로 기록합니다.
+        CompletableFuture<List<PointOperationResult>> executed;
+        try {
+            executed = admitted(userId, userOperations.size(), () -> pointCommandEngine.executeAll(userId, userOperations));
+        }
+        catch (TooManyRequestsException e) {
+            for (int index : indexes) {
+                results[index] = PointOperationResult.failure(index, operations.get(index), null, e.getMessage());
             }
+            return CompletableFuture.completedFuture(null);
+        }
 
-            long afterPoint = userPoint.point() - amount;
+        return executed.handle((userResults, failure) -> {
+            if (failure == null) {
+                for (int i = 0; i < indexes.size(); i++) {
+                    results[indexes.get(i)] = userResults.get(i).withIndex(indexes.get(i));
+                }
+                return null;
+            }
 
-            UserPoint updatedUserPoint = userPointRepository.insertOrUpdate(id, afterPoint);
-            pointHistoryRepository.insert(id, amount, TransactionType.USE, System.currentTimeMillis());
+            // 저장소 오류 등으로 실패하면 해당 유저의 연산은 모두 실패로 기록합니다.
+            Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+            log.error("Failed to apply point operations of user {}.", userId, cause);
 
-            log.info(pointHistoryRepository.selectAllByUserId(id).toString()); //검증
+            for (int index : indexes) {
+                results[index] = PointOperationResult.failure(index, operations.get(index), null, cause.getMessage());
+            }
+            return null;
+        });
+    }
 
-            return updatedUserPoint;
+    // 엔진 호출까지 request 풀에서 실행합니다. (lock 모드의 엔진은 호출한 스레드에서 바로 실행합니다)
+    private <T> CompletableFuture<T> onRequestPool(Supplier<CompletableFuture<T>> task) {
+        return CompletableFuture.supplyAsync(task, pointExecutors.request()).thenCompose(Function.identity());
+    }
+
+    // future 는 호출자만 가진 것이어야 합니다. (제한 시간이 지나면 future 자체를 TimeoutException 으로 완료합니다)
+    private <T> CompletableFuture<T> withRequestTimeout(CompletableFuture<T> future) {
+        return future.orTimeout(pointExecutors.requestTimeoutMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 엔진이 던진 예외를 감싸지 않고 그대로 던집니다.
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
         }
-        finally {
-            lock.unlock();
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 }
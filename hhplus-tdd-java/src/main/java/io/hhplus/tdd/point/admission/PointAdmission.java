@@ -0,0 +1,215 @@
+package io.hhplus.tdd.point.admission;
+
+import io.hhplus.tdd.Exception.TooManyRequestsException;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 충전/사용 요청을 유저별로 제한해, 한 유저의 요청이 몰려도 다른 유저의 응답 시간이 늘어나지 않게 합니다.
+ * - 유저마다 초당 ratePerSecond 개씩 채워지는 토큰 버킷(최대 burst 개)에서 요청당 토큰 하나를 씁니다.
+ * - 실행 중인 요청 뒤에서 기다리는 요청이 maxQueuedPerUser 개를 넘으면 받지 않습니다.
+ * - 제한에 걸린 요청은 락을 기다리지 않고 바로 TooManyRequestsException(429)으로 실패합니다.
+ * - 유저별 상태는 최대 maxUsers 명까지 들고 있습니다. 가득 차면 실행 중인 요청이 없고 토큰이 다 채워진 유저를 지우고,
+ *   그래도 자리가 없으면 처음 보는 유저의 요청을 받지 않습니다. (지운 유저는 새로 만든 상태와 같습니다.)
+ * - point.admission.rejected : 거절 사유(rate, queue, capacity)별 거절 건수
+ *
+ * 유저별 상태는 ConcurrentHashMap 의 compute 안에서만 바뀌므로 같은 유저의 요청끼리만 순서대로 처리됩니다.
+ */
+@Component
+public class PointAdmission {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final Permit NO_OP = () -> {
+    };
+
+    private final boolean enabled;
+    private final double tokensPerNano;
+    private final double burst;
+    private final int maxInFlightPerUser;
+    private final int maxUsers;
+    private final LongSupplier nanoTime;
+    private final ConcurrentHashMap<Long, UserAdmission> users = new ConcurrentHashMap<>();
+    private final ReentrantLock sweepLock = new ReentrantLock();
+    private volatile long lastSweepNanos;
+    private final Map<Rejection, Counter> rejected = new EnumMap<>(Rejection.class);
+
+    @Autowired
+    public PointAdmission(PointProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties.getAdmission(), properties.getMetrics().isEnabled() ? meterRegistry.getIfAvailable() : null, System::nanoTime);
+    }
+
+    public PointAdmission(PointProperties.Admission admission, MeterRegistry registry, LongSupplier nanoTime) {
+        if (admission.getRatePerSecond() <= 0 || admission.getBurst() < 1) {
+            throw new IllegalArgumentException("Admission rate must be positive and burst must be at least 1.");
+        }
+        if (admission.getMaxQueuedPerUser() < 0 || admission.getMaxUsers() <= 0) {
+            throw new IllegalArgumentException("Admission queue and user limits must not be negative.");
+        }
+        this.enabled = admission.isEnabled();
+        this.tokensPerNano = admission.getRatePerSecond() / 1e9;
+        this.burst = admission.getBurst();
+        this.maxInFlightPerUser = admission.getMaxQueuedPerUser() + 1;
+        this.maxUsers = admission.getMaxUsers();
+        this.nanoTime = nanoTime;
+
+        MeterRegistry meters = registry != null ? registry : new CompositeMeterRegistry();  // 하위 registry 가 없으면 기록하지 않습니다.
+        for (Rejection rejection : Rejection.values()) {
+            rejected.put(rejection, Counter.builder("point.admission.rejected")
+                    .description("Point requests rejected by per-user admission control")
+                    .tag("reason", rejection.tag())
+                    .register(meters));
+        }
+        Gauge.builder("point.admission.users", users, Map::size)
+                .description("Users tracked by admission control")
+                .register(meters);
+    }
+
+    // 제한이 없는 인스턴스 (테스트, 벤치마크용)
+    public static PointAdmission unlimited() {
+        PointProperties.Admission admission = new PointProperties.Admission();
+        admission.setEnabled(false);
+        return new PointAdmission(admission, null, System::nanoTime);
+    }
+
+    /**
+     * 요청을 받을 수 있으면 Permit 을 돌려주고, 아니면 TooManyRequestsException 을 던집니다.
+     * 요청이 끝나면(성공, 실패 모두) Permit.release() 를 한 번 호출해야 합니다.
+     */
+    public Permit acquire(long userId) {
+        return acquire(userId, 1);
+    }
+
+    /**
+     * 연산 operations 개를 한 번에 실행하는 요청(배치의 한 유저 몫)을 받습니다.
+     * 토큰은 연산 수만큼 쓰고, 실행 중인 요청 자리는 하나만 차지합니다. (연산 수가 burst 보다 많으면 받지 않습니다)
+     */
+    public Permit acquire(long userId, int operations) {
+        if (operations < 1) {
+            throw new IllegalArgumentException("Operations must be at least 1.");
+        }
+        if (!enabled) {
+            return NO_OP;
+        }
+
+        long now = nanoTime.getAsLong();
+        if (users.size() >= maxUsers && !users.containsKey(userId)) {
+            sweep(now);
+        }
+
+        Rejection[] rejection = new Rejection[1];
+        UserAdmission user = users.compute(userId, (id, current) -> {
+            if (current == null) {
+                if (users.size() >= maxUsers) {
+                    rejection[0] = Rejection.CAPACITY;
+                    return null;
+                }
+                current = new UserAdmission(burst, now);
+            }
+            rejection[0] = current.tryAcquire(now, operations);
+            return current;
+        });
+
+        if (rejection[0] != null) {
+            rejected.get(rejection[0]).increment();
+            throw new TooManyRequestsException(rejection[0].message(userId));
+        }
+        return user::release;
+    }
+
+    // 현재 상태를 들고 있는 유저 수
+    public int trackedUsers() {
+        return users.size();
+    }
+
+    // 실행 중인 요청이 없고 토큰이 다 채워진 유저를 지웁니다. 다른 스레드가 정리 중이거나 최근에 정리했으면 건너뜁니다.
+    private void sweep(long now) {
+        if (now - lastSweepNanos < SWEEP_INTERVAL_NANOS || !sweepLock.tryLock()) {
+            return;
+        }
+        try {
+            lastSweepNanos = now;
+            for (Long userId : users.keySet()) {
+                users.computeIfPresent(userId, (id, user) -> user.isIdle(now) ? null : user);
+            }
+        }
+        finally {
+            sweepLock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Permit {
+        void release();
+    }
+
+    private enum Rejection {
+        RATE, QUEUE, CAPACITY;
+
+        private String tag() {
+            return name().toLowerCase();
+        }
+
+        private String message(long userId) {
+            return switch (this) {
+                case RATE -> "Too many requests for user " + userId + ". Retry later.";
+                case QUEUE -> "Too many concurrent requests for user " + userId + ". Retry later.";
+                case CAPACITY -> "Too many active users. Retry later.";
+            };
+        }
+    }
+
+    // tokens, refilledAt 은 users.compute 안에서만 읽고 바꿉니다. inFlight 는 요청이 끝날 때 바로 줄어듭니다.
+    private final class UserAdmission {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double tokens;
+        private long refilledAt;
+
+        private UserAdmission(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        private Rejection tryAcquire(long now, int operations) {
+            if (inFlight.get() >= maxInFlightPerUser) {
+                return Rejection.QUEUE;
+            }
+            refill(now);
+            if (tokens < operations) {
+                return Rejection.RATE;
+            }
+            tokens -= operations;
+            inFlight.incrementAndGet();
+            return null;
+        }
+
+        private boolean isIdle(long now) {
+            refill(now);
+            return inFlight.get() == 0 && tokens >= burst;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+                refilledAt = now;
+            }
+        }
+
+        private void release() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
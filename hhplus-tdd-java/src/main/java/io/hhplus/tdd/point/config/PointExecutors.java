@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 기능에서 사용하는 비동기 작업용 스레드 풀을 모아둡니다.
+ * - 모든 풀은 스레드 수와 대기열 크기가 제한되어 있습니다.
+ * - batch, lookup 풀은 대기열이 가득 차면 작업을 제출한 스레드가 직접 실행합니다. (제출한 스레드는 어차피 결과를 기다립니다)
+ * - request 풀은 대기열이 가득 차면 RejectedExecutionException 으로 거절합니다.
+ *   비동기 API 가 반환하려던 요청 스레드에서 작업을 실행하면 요청 스레드가 묶이고 제한 시간도 걸리지 않기 때문입니다.
+ * - spring.threads.virtual.enabled=true 이면 풀의 스레드를 virtual thread 로 만듭니다.
+ *
+ * Executor 타입의 Bean 을 등록하면 Spring Boot 의 기본 applicationTaskExecutor 가 만들어지지 않으므로
+ * 풀을 Bean 으로 노출하지 않고 이 클래스가 소유합니다.
+ */
+@Component
+public class PointExecutors {
+
+    private final ExecutorService batch;
+    private final ExecutorService request;
+    private final ExecutorService lookup;
+    private final long requestTimeoutMillis;
+
+    public PointExecutors(PointProperties properties, Environment environment) {
+        boolean virtual = Threading.VIRTUAL.isActive(environment);
+        this.batch = newBoundedExecutor("point-batch-", properties.getExecutor().getBatch(), virtual, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.request = newBoundedExecutor("point-request-", properties.getExecutor().getRequest(), virtual, new ThreadPoolExecutor.AbortPolicy());
+        this.lookup = newBoundedExecutor("point-lookup-", properties.getExecutor().getLookup(), virtual, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.requestTimeoutMillis = properties.getExecutor().getRequestTimeoutMillis();
+    }
+
+    // 배치 요청을 유저별로 나눠 실행하는 풀
+    public ExecutorService batch() {
+        return batch;
+    }
+
+    // 비동기 API 요청을 실행하는 풀
+    public ExecutorService request() {
+        return request;
+    }
+
+    // 여러 유저의 잔액을 동시에 조회하는 풀
+    public ExecutorService lookup() {
+        return lookup;
+    }
+
+    // 비동기 API 의 응답 제한 시간
+    public long requestTimeoutMillis() {
+        return requestTimeoutMillis;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        batch.shutdown();
+        request.shutdown();
+        lookup.shutdown();
+        batch.awaitTermination(10, TimeUnit.SECONDS);
+        request.awaitTermination(10, TimeUnit.SECONDS);
+        lookup.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    static ExecutorService newBoundedExecutor(String prefix, PointProperties.Pool pool, boolean virtual, RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadFactory threadFactory = virtual
+                ? Thread.ofVirtual().name(prefix, 1).factory()
+                : Thread.ofPlatform().name(prefix, 1).daemon(true).factory();
+
+        return new ThreadPoolExecutor(
+                pool.getThreads(), pool.getThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(pool.getQueueCapacity()),
+                threadFactory,
+                rejectedExecutionHandler
+        );
+    }
+}
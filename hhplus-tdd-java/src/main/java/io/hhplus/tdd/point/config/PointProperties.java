@@ -0,0 +1,237 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * application.yml 의 point.* 설정값
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point")
+public class PointProperties {
+
+    private Balance balance = new Balance();
+    private History history = new History();
+    private ExecutorPools executor = new ExecutorPools();
+    private Metrics metrics = new Metrics();
+    private Concurrency concurrency = new Concurrency();
+    private Recovery recovery = new Recovery();
+    private Idempotency idempotency = new Idempotency();
+    private Admission admission = new Admission();
+    private Cluster cluster = new Cluster();
+
+    @Getter
+    @Setter
+    public static class Balance {
+        // 잔액을 실제로 저장하는 곳 (table: UserPointTable, primitive: long 배열 기반 해시 테이블)
+        private BalanceStore store = BalanceStore.TABLE;
+        private Cache cache = new Cache();
+    }
+
+    public enum BalanceStore {
+        TABLE, PRIMITIVE
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        // 유저 포인트를 메모리에 캐싱할지 여부
+        private boolean enabled = true;
+        // 최대 캐싱 유저 수 (넘으면 가장 오래 사용되지 않은 유저부터 제거)
+        private int maximumSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class History {
+        // 내역을 실제로 저장하는 곳 (table: PointHistoryTable, mapped: 메모리 매핑 파일)
+        private Store store = Store.TABLE;
+        private Mapped mapped = new Mapped();
+        private Index index = new Index();
+        private Summary summary = new Summary();
+        private WriteBehind writeBehind = new WriteBehind();
+    }
+
+    public enum Store {
+        TABLE, MAPPED
+    }
+
+    @Getter
+    @Setter
+    public static class Mapped {
+        // 내역을 기록할 파일 경로 (재시작 시 이 파일에서 내역을 복구합니다)
+        private String path = "data/point-history.log";
+    }
+
+    @Getter
+    @Setter
+    public static class Index {
+        // 유저별 내역 인덱스를 두고 조회를 인덱스에서 처리할지 여부 (mapped 저장소는 자체 인덱스를 사용합니다)
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Summary {
+        // 유저별 충전/사용 합계를 내역을 저장할 때마다 갱신해 둘지 여부 (끄면 조회할 때마다 내역 전체를 읽어 계산합니다)
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        // 포인트 내역을 큐에 쌓아두고 별도 스레드에서 저장할지 여부
+        private boolean enabled = true;
+        // 큐가 가득 차면 insert 를 호출한 스레드가 대기합니다.
+        private int queueCapacity = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class ExecutorPools {
+        // 배치 요청을 유저별로 나눠 병렬 처리하는 스레드 풀
+        private Pool batch = new Pool(8, 1_000);
+        // 비동기 API(/async)의 충전/사용/조회를 실행하는 스레드 풀
+        private Pool request = new Pool(16, 1_000);
+        // 여러 유저 잔액 조회(GET /point?ids=)를 유저별로 나눠 동시에 실행하는 스레드 풀
+        private Pool lookup = new Pool(32, 10_000);
+        // 비동기 API 의 응답 제한 시간 (넘으면 503 으로 응답하고, 연산은 계속 실행될 수 있습니다)
+        private long requestTimeoutMillis = 3_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+        // 같은 유저의 충전/사용을 직렬화하는 방식
+        private Mode mode = Mode.LOCK;
+        private Sharded sharded = new Sharded();
+        private Optimistic optimistic = new Optimistic();
+    }
+
+    public enum Mode {
+        LOCK,      // 유저 락을 잡고 호출한 스레드에서 실행
+        SHARDED,   // 유저 ID 해시로 나눈 shard 전용 스레드에서 실행
+        COMBINING, // 같은 유저에게 동시에 들어온 연산을 락을 잡은 스레드가 모아서 한 번에 실행
+        OPTIMISTIC // 락 없이 실행하고, 읽은 뒤 다른 요청이 먼저 저장했으면 다시 시도
+    }
+
+    @Getter
+    @Setter
+    public static class Sharded {
+        // shard(전용 스레드) 수, 0 이하이면 CPU 코어 수
+        private int shards = 0;
+        // shard 별 대기열 크기 (가득 차면 연산을 보낸 스레드가 대기합니다)
+        private int mailboxCapacity = 1_000;
+
+        public int shardCount() {
+            return shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Optimistic {
+        // 충돌 시 처음 시도를 포함해 최대 몇 번까지 시도할지
+        private int maxAttempts = 10;
+        // 재시도 전 대기 시간의 상한은 backoffMillis 에서 시작해 시도할 때마다 두 배로 늘어나고, maxBackoffMillis 를 넘지 않습니다.
+        private long backoffMillis = 1;
+        private long maxBackoffMillis = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Recovery {
+        // 재시작 시 스냅샷과 내역 파일로 잔액을 복구할지 여부 (history.store=mapped 필요)
+        private boolean enabled = false;
+        private String snapshotPath = "data/point-balance.snapshot";
+        // 스냅샷을 남기는 주기, 0 이하이면 종료할 때만 남깁니다.
+        private long snapshotIntervalSeconds = 60;
+        // 내역을 다시 적용할 때 사용할 전용 스레드 수 (공용 ForkJoinPool 을 쓰지 않습니다), 0 이하이면 CPU 코어 수
+        private int parallelism = 0;
+
+        public int parallelism() {
+            return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+        // 충전/사용 요청을 유저별로 제한할지 여부 (넘치면 429 로 바로 거절합니다)
+        private boolean enabled = true;
+        // 유저별 토큰 버킷 : 초당 채워지는 토큰 수와 최대 토큰 수 (요청당 토큰 하나)
+        private double ratePerSecond = 50;
+        private int burst = 100;
+        // 실행 중인 요청 뒤에서 기다릴 수 있는 같은 유저의 요청 수
+        private int maxQueuedPerUser = 16;
+        // 상태를 들고 있을 최대 유저 수
+        private int maxUsers = 100_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+        // 유저 ID 를 consistent hashing 으로 여러 인스턴스에 나눠 맡길지 여부 (맡지 않은 유저의 요청은 담당 인스턴스로 전달합니다)
+        private boolean enabled = false;
+        // 이 인스턴스의 노드 ID (nodes 중 하나)
+        private String self;
+        private List<Node> nodes = new ArrayList<>();
+        // 노드마다 링에 올리는 가상 노드 수 (많을수록 유저가 고르게 나뉩니다)
+        private int virtualNodes = 128;
+        // 담당 인스턴스로 전달한 요청의 응답 제한 시간 (넘으면 503)
+        private long forwardTimeoutMillis = 3_000;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Node {
+        private String id;
+        // ex) http://10.0.0.2:8080
+        private String url;
+    }
+
+    @Getter
+    @Setter
+    public static class Idempotency {
+        // 결과를 기억할 최대 Idempotency-Key 수 (넘으면 오래된 키부터 지웁니다)
+        private int maximumSize = 100_000;
+        // 결과를 기억할 시간
+        private long ttlSeconds = 3_600;
+    }
+
+    @Getter
+    @Setter
+    public static class Metrics {
+        // Repository 타이머, 락 대기/보유 시간, 연산 건수 지표를 기록할지 여부
+        private boolean enabled = true;
+        private HotKeys hotKeys = new HotKeys();
+    }
+
+    @Getter
+    @Setter
+    public static class HotKeys {
+        // 락 대기가 많은 유저를 추적해 /actuator/hotkeys 로 보여줄지 여부
+        private boolean enabled = true;
+        // 추적하는 유저 수 (top-N 의 최대 N)
+        private int capacity = 100;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int threads;
+        // 대기열이 가득 찼을 때의 처리는 풀마다 다릅니다. (PointExecutors 참고)
+        private int queueCapacity;
+    }
+}
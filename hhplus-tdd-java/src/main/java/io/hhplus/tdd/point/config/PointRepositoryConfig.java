@@ -0,0 +1,198 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.recovery.BalanceRecovery;
+import io.hhplus.tdd.point.repository.CachingUserPointRepository;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.MeteredPointHistoryRepository;
+import io.hhplus.tdd.point.repository.MeteredUserPointRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.RecoveredUserPointRepository;
+import io.hhplus.tdd.point.repository.SummarizingPointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.repository.VersionedUserPointStore;
+import io.hhplus.tdd.point.repository.WriteBehindPointHistoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 서비스가 주입받는 Repository 를 조립합니다.
+ * 테이블을 감싸는 Repository 구현체 위에 설정에 따라 필요한 계층을 덧씌웁니다.
+ * point.metrics.enabled 이면 테이블 구현체(layer=table)와 최상위 계층(layer=repository)에 타이머를 붙입니다.
+ */
+@Configuration
+@EnableConfigurationProperties(PointProperties.class)
+public class PointRepositoryConfig {
+
+    private static final String TABLE_LAYER = "table";
+    private static final String REPOSITORY_LAYER = "repository";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.balance", name = "store", havingValue = "primitive")
+    public PrimitiveUserPointRepository primitiveUserPointRepository() {
+        return new PrimitiveUserPointRepository();
+    }
+
+    // 실제로 잔액을 저장하고 조회하는 계층
+    @Bean
+    public UserPointRepository userPointStore(
+            UserPointRepositoryImpl userPointRepositoryImpl,
+            ObjectProvider<PrimitiveUserPointRepository> primitiveUserPointRepository,
+            ObjectProvider<BalanceRecovery> balanceRecovery,
+            PointProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        UserPointRepository repository = userPointRepositoryImpl;
+
+        PrimitiveUserPointRepository primitive = primitiveUserPointRepository.getIfAvailable();
+        if (primitive != null) {
+            repository = primitive;
+        }
+
+        MeterRegistry registry = meterRegistry(properties, meterRegistry);
+        if (registry != null) {
+            repository = new MeteredUserPointRepository(repository, registry, TABLE_LAYER);
+        }
+
+        // 복구한 잔액은 테이블에 옮겨 쓰지 않고, 유저가 처음 변경될 때까지 테이블 대신 응답합니다.
+        BalanceRecovery recovery = balanceRecovery.getIfAvailable();
+        if (recovery != null) {
+            repository = new RecoveredUserPointRepository(repository, recovery.recoveredBalances());
+        }
+
+        return repository;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.balance.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CachingUserPointRepository cachingUserPointRepository(
+            @Qualifier("userPointStore") UserPointRepository userPointStore,
+            PointProperties properties
+    ) {
+        return new CachingUserPointRepository(userPointStore, properties.getBalance().getCache().getMaximumSize());
+    }
+
+    @Bean
+    @Primary
+    public UserPointRepository userPointRepository(
+            @Qualifier("userPointStore") UserPointRepository userPointStore,
+            ObjectProvider<CachingUserPointRepository> cachingUserPointRepository,
+            PointProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        UserPointRepository repository = userPointStore;
+
+        CachingUserPointRepository cache = cachingUserPointRepository.getIfAvailable();
+        if (cache != null) {
+            repository = cache;
+        }
+
+        MeterRegistry registry = meterRegistry(properties, meterRegistry);
+        if (registry != null) {
+            repository = new MeteredUserPointRepository(repository, registry, REPOSITORY_LAYER);
+        }
+
+        return repository;
+    }
+
+    // 낙관적 모드에서 잔액 변경은 최상위 계층 위에 버전을 붙인 이 저장소를 거칩니다.
+    // 버전을 기억하는 유저 수는 잔액 캐시와 같은 크기로 제한합니다.
+    @Bean
+    @ConditionalOnProperty(prefix = "point.concurrency", name = "mode", havingValue = "optimistic")
+    public VersionedUserPointStore versionedUserPointStore(UserPointRepository userPointRepository, PointProperties properties) {
+        return new VersionedUserPointStore(userPointRepository, properties.getBalance().getCache().getMaximumSize());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "point.history", name = "store", havingValue = "mapped")
+    public MappedPointHistoryRepository mappedPointHistoryRepository(PointProperties properties) throws IOException {
+        return new MappedPointHistoryRepository(Path.of(properties.getHistory().getMapped().getPath()));
+    }
+
+    // 실제로 내역을 저장하고 조회하는 계층
+    @Bean
+    public PointHistoryRepository pointHistoryStore(
+            PointHistoryRepositoryImpl pointHistoryRepositoryImpl,
+            ObjectProvider<MappedPointHistoryRepository> mappedPointHistoryRepository,
+            PointProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        PointHistoryRepository repository = pointHistoryRepositoryImpl;
+
+        MappedPointHistoryRepository mapped = mappedPointHistoryRepository.getIfAvailable();
+        if (mapped != null) {
+            repository = mapped;
+        }
+
+        MeterRegistry registry = meterRegistry(properties, meterRegistry);
+        if (registry != null) {
+            repository = new MeteredPointHistoryRepository(repository, registry, TABLE_LAYER);
+        }
+
+        // 매핑 파일 저장소는 자체 유저 인덱스가 있으므로 인덱스 계층을 덧씌우지 않습니다.
+        if (mapped == null && properties.getHistory().getIndex().isEnabled()) {
+            repository = new IndexedPointHistoryRepository(repository);
+        }
+
+        return repository;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "point.history.write-behind", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public WriteBehindPointHistoryRepository writeBehindPointHistoryRepository(
+            @Qualifier("pointHistoryStore") PointHistoryRepository pointHistoryStore,
+            ObjectProvider<MappedPointHistoryRepository> mappedPointHistoryRepository,
+            PointProperties properties
+    ) {
+        // 테이블은 매번 새로 만들어지므로 마지막 ID 가 0 이고, 매핑 파일은 복구된 마지막 ID 부터 이어서 부여합니다.
+        MappedPointHistoryRepository mapped = mappedPointHistoryRepository.getIfAvailable();
+        long lastPersistedId = mapped == null ? 0L : mapped.lastId();
+
+        return new WriteBehindPointHistoryRepository(
+                pointHistoryStore, properties.getHistory().getWriteBehind().getQueueCapacity(), lastPersistedId);
+    }
+
+    @Bean
+    @Primary
+    public PointHistoryRepository pointHistoryRepository(
+            @Qualifier("pointHistoryStore") PointHistoryRepository pointHistoryStore,
+            ObjectProvider<WriteBehindPointHistoryRepository> writeBehindPointHistoryRepository,
+            PointProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        PointHistoryRepository repository = pointHistoryStore;
+
+        WriteBehindPointHistoryRepository writeBehind = writeBehindPointHistoryRepository.getIfAvailable();
+        if (writeBehind != null) {
+            repository = writeBehind;
+        }
+
+        // write-behind 위에 두어야 큐에 넣는 시점에 합계가 갱신되고, 재계산 시 아직 저장되지 않은 내역도 포함됩니다.
+        if (properties.getHistory().getSummary().isEnabled()) {
+            repository = new SummarizingPointHistoryRepository(repository);
+        }
+
+        MeterRegistry registry = meterRegistry(properties, meterRegistry);
+        if (registry != null) {
+            repository = new MeteredPointHistoryRepository(repository, registry, REPOSITORY_LAYER);
+        }
+
+        return repository;
+    }
+
+    private static MeterRegistry meterRegistry(PointProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return properties.getMetrics().isEnabled() ? meterRegistry.getIfAvailable() : null;
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 포인트 내역 조회 결과
+ * - nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회합니다. 더 조회할 내역이 없으면 null 입니다.
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+}
@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.dto;
+
+import java.util.List;
+
+public record PointLookupRequest(List<Long> ids) {
+
+}
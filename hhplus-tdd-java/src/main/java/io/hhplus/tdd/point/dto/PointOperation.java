@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.TransactionType;
+
+public record PointOperation(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+}
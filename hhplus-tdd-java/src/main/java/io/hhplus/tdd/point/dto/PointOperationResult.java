@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 배치 요청의 연산 하나에 대한 결과
+ * - 성공 시 point 는 해당 연산을 반영한 직후의 잔액입니다.
+ * - 실패 시 point 는 변경되지 않은 잔액(알 수 없으면 null)이고 message 에 실패 사유가 담깁니다.
+ */
+public record PointOperationResult(
+        int index,
+        long userId,
+        TransactionType type,
+        long amount,
+        boolean success,
+        Long point,
+        String message
+) {
+
+    public static PointOperationResult success(int index, PointOperation operation, long point) {
+        return new PointOperationResult(index, operation.userId(), operation.type(), operation.amount(), true, point, null);
+    }
+
+    public static PointOperationResult failure(int index, PointOperation operation, Long point, String message) {
+        return new PointOperationResult(index, operation.userId(), operation.type(), operation.amount(), false, point, message);
+    }
+
+    public PointOperationResult withIndex(int index) {
+        return new PointOperationResult(index, userId, type, amount, success, point, message);
+    }
+}
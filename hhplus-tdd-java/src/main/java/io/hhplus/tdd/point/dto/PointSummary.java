@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+
+/**
+ * 한 유저의 포인트 내역 합계
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long chargeCount,
+        long useCount
+) {
+
+    public static PointSummary empty(long userId) {
+        return new PointSummary(userId, 0L, 0L, 0L, 0L);
+    }
+
+    public static PointSummary of(long userId, List<PointHistory> histories) {
+        PointSummary summary = empty(userId);
+        for (PointHistory pointHistory : histories) {
+            summary = summary.plus(pointHistory);
+        }
+        return summary;
+    }
+
+    // 내역 하나를 더한 합계
+    public PointSummary plus(PointHistory pointHistory) {
+        if (pointHistory.type() == TransactionType.CHARGE) {
+            return new PointSummary(userId, totalCharged + pointHistory.amount(), totalUsed, chargeCount + 1, useCount);
+        }
+        return new PointSummary(userId, totalCharged, totalUsed + pointHistory.amount(), chargeCount, useCount + 1);
+    }
+}
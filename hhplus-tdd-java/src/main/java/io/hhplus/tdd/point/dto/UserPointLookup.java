@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 여러 유저 잔액 조회에서 유저 한 명의 결과
+ * - 잔액이 0 이고 내역도 없는 유저(충전/사용한 적이 없는 유저)는 found 가 false 이고 userPoint 는 null 입니다.
+ * - 잔액을 모두 사용해 0 이 된 유저는 내역이 있으므로 found 입니다.
+ */
+public record UserPointLookup(
+        boolean found,
+        UserPoint userPoint
+) {
+
+    public static UserPointLookup found(UserPoint userPoint) {
+        return new UserPointLookup(true, userPoint);
+    }
+
+    public static UserPointLookup notFound() {
+        return new UserPointLookup(false, null);
+    }
+}
@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 유저에게 동시에 들어온 연산을 락을 잡은 스레드가 한 번에 모아서 처리합니다. (flat combining)
+ * - 각 스레드는 자신의 연산을 유저별 대기 목록에 넣은 뒤 유저 락을 기다립니다.
+ * - 락을 잡은 스레드는 자신의 연산이 이미 처리되었으면 바로 돌아가고,
+ *   아니면 대기 목록을 통째로 가져와 잔액을 한 번 읽고, 들어온 순서대로 적용하고, 한 번만 저장합니다.
+ * - 잔액을 넘는 사용 연산은 그 연산만 실패하고, 나머지 연산은 반영됩니다.
+ *
+ * 인기 유저에게 n 개의 요청이 몰려도 저장소 왕복은 n 번이 아니라 대략 두어 번으로 줄어듭니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.concurrency", name = "mode", havingValue = "combining")
+@AllArgsConstructor
+public class CombiningPointCommandEngine implements PointCommandEngine {
+
+    private static final String COMBINE_OPERATION = "COMBINE";
+
+    private final UserLockManager userLockManager;
+    private final PointLedger pointLedger;
+    private final PointExecutors pointExecutors;
+    private final ConcurrentHashMap<Long, ArrayDeque<Request>> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public CompletableFuture<UserPoint> execute(PointOperation operation) {
+        try {
+            PointLedger.Outcome outcome = submit(operation.userId(), List.of(operation)).get(0);
+            if (outcome.failure() != null) {
+                return CompletableFuture.failedFuture(outcome.failure());
+            }
+            return CompletableFuture.completedFuture(outcome.userPoint());
+        }
+        catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 배치는 유저마다 batch 풀에서 병렬로 실행하고, 그 유저의 다른 요청과 함께 처리될 수 있습니다.
+    @Override
+    public CompletableFuture<List<PointOperationResult>> executeAll(long userId, List<PointOperation> operations) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<PointLedger.Outcome> outcomes = submit(userId, operations);
+
+            List<PointOperationResult> results = new ArrayList<>(outcomes.size());
+            for (int index = 0; index < outcomes.size(); index++) {
+                results.add(outcomes.get(index).toResult(index));
+            }
+            return results;
+        }, pointExecutors.batch());
+    }
+
+    // 연산을 대기 목록에 넣고, 누군가(자신 포함) 처리할 때까지 기다린 뒤 결과를 돌려줍니다.
+    private List<PointLedger.Outcome> submit(long userId, List<PointOperation> operations) {
+        Request request = new Request(operations);
+        pending.compute(userId, (id, waiting) -> {
+            ArrayDeque<Request> deque = waiting == null ? new ArrayDeque<>() : waiting;
+            deque.addLast(request);
+            return deque;
+        });
+
+        userLockManager.executeWithLock(userId, COMBINE_OPERATION, () -> {
+            if (!request.future.isDone()) {
+                combine(userId);
+            }
+            return null;
+        });
+        return request.future.join();
+    }
+
+    // 유저 락 안에서만 호출됩니다.
+    private void combine(long userId) {
+        ArrayDeque<Request> requests = pending.remove(userId);  // 이후 들어오는 요청은 새 목록에 쌓입니다.
+        if (requests == null) {
+            return;
+        }
+
+        List<PointOperation> operations = new ArrayList<>();
+        for (Request request : requests) {
+            operations.addAll(request.operations);
+        }
+
+        List<PointLedger.Outcome> outcomes;
+        try {
+            outcomes = pointLedger.applyEach(userId, operations);
+        }
+        catch (RuntimeException e) {
+            requests.forEach(request -> request.future.completeExceptionally(e));
+            return;
+        }
+
+        int from = 0;
+        for (Request request : requests) {
+            int to = from + request.operations.size();
+            request.future.complete(outcomes.subList(from, to));
+            from = to;
+        }
+    }
+
+    private static final class Request {
+        private final List<PointOperation> operations;
+        private final CompletableFuture<List<PointLedger.Outcome>> future = new CompletableFuture<>();
+
+        private Request(List<PointOperation> operations) {
+            this.operations = operations;
+        }
+    }
+}
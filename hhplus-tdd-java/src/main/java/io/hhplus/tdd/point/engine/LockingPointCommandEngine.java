@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 유저 락을 잡고 연산을 실행합니다. (기본 모드)
+ * - 단건 연산은 호출한 스레드에서 바로 실행하므로 반환되는 future 는 이미 완료되어 있습니다.
+ * - 배치는 유저마다 batch 풀에서 병렬로 실행합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.concurrency", name = "mode", havingValue = "lock", matchIfMissing = true)
+@AllArgsConstructor
+public class LockingPointCommandEngine implements PointCommandEngine {
+
+    private static final String BATCH_OPERATION = "BATCH";
+
+    private final UserLockManager userLockManager;
+    private final PointLedger pointLedger;
+    private final PointExecutors pointExecutors;
+
+    @Override
+    public CompletableFuture<UserPoint> execute(PointOperation operation) {
+        try {
+            return CompletableFuture.completedFuture(userLockManager.executeWithLock(  // 해당 유저에 대한 잠금
+                    operation.userId(), operation.type().name(), () -> pointLedger.apply(operation)));
+        }
+        catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<PointOperationResult>> executeAll(long userId, List<PointOperation> operations) {
+        return CompletableFuture.supplyAsync(
+                () -> userLockManager.executeWithLock(userId, BATCH_OPERATION, () -> pointLedger.applyAll(userId, operations)),
+                pointExecutors.batch());
+    }
+}
@@ -0,0 +1,151 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.Exception.ConcurrentUpdateException;
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.VersionedUserPointStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 락 없이 잔액을 읽고 계산한 뒤, 읽은 버전이 그대로일 때만 저장합니다. (낙관적 동시성)
+ * - 다른 요청이 먼저 저장했다면(충돌) 잠시 쉬었다가 처음부터 다시 읽고 계산합니다.
+ *   쉬는 시간은 시도할 때마다 두 배씩 늘어나는 상한 안에서 무작위로 정합니다.
+ * - maxAttempts 번 모두 충돌하면 ConcurrentUpdateException 으로 실패합니다.
+ * - point.optimistic.conflicts : 연산 종류별 충돌(재시도) 횟수
+ * - point.optimistic.exhausted : 재시도를 모두 소진해 실패한 연산 수
+ *
+ * 같은 유저에 대한 동시 요청이 드문 경우에 유리하고, 요청이 몰리는 유저는 재시도가 늘어나므로 lock/combining 모드가 낫습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.concurrency", name = "mode", havingValue = "optimistic")
+public class OptimisticPointCommandEngine implements PointCommandEngine {
+
+    private static final String BATCH_OPERATION = "BATCH";
+
+    private final VersionedUserPointStore versionedUserPointStore;
+    private final PointLedger pointLedger;
+    private final PointExecutors pointExecutors;
+    private final int maxAttempts;
+    private final long backoffNanos;
+    private final long maxBackoffNanos;
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, Counter> conflicts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> exhausted = new ConcurrentHashMap<>();
+
+    @Autowired
+    public OptimisticPointCommandEngine(
+            VersionedUserPointStore versionedUserPointStore,
+            PointLedger pointLedger,
+            PointExecutors pointExecutors,
+            PointProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(versionedUserPointStore, pointLedger, pointExecutors, properties.getConcurrency().getOptimistic(),
+                properties.getMetrics().isEnabled() ? meterRegistry.getIfAvailable() : null);
+    }
+
+    public OptimisticPointCommandEngine(
+            VersionedUserPointStore versionedUserPointStore,
+            PointLedger pointLedger,
+            PointExecutors pointExecutors,
+            PointProperties.Optimistic optimistic,
+            MeterRegistry registry
+    ) {
+        if (optimistic.getMaxAttempts() < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1.");
+        }
+        this.versionedUserPointStore = versionedUserPointStore;
+        this.pointLedger = pointLedger;
+        this.pointExecutors = pointExecutors;
+        this.maxAttempts = optimistic.getMaxAttempts();
+        this.backoffNanos = TimeUnit.MILLISECONDS.toNanos(optimistic.getBackoffMillis());
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(optimistic.getMaxBackoffMillis());
+        this.registry = registry != null ? registry : new CompositeMeterRegistry();  // 하위 registry 가 없으면 기록하지 않습니다.
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> execute(PointOperation operation) {
+        try {
+            PointLedger.Outcome outcome = applyOptimistically(operation.userId(), List.of(operation), operation.type().name()).get(0);
+            if (outcome.failure() != null) {
+                return CompletableFuture.failedFuture(outcome.failure());
+            }
+            return CompletableFuture.completedFuture(outcome.userPoint());
+        }
+        catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<PointOperationResult>> executeAll(long userId, List<PointOperation> operations) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<PointLedger.Outcome> outcomes = applyOptimistically(userId, operations, BATCH_OPERATION);
+
+            List<PointOperationResult> results = new ArrayList<>(outcomes.size());
+            for (int index = 0; index < outcomes.size(); index++) {
+                results.add(outcomes.get(index).toResult(index));
+            }
+            return results;
+        }, pointExecutors.batch());
+    }
+
+    private List<PointLedger.Outcome> applyOptimistically(long userId, List<PointOperation> operations, String operation) {
+        for (int attempt = 1; ; attempt++) {
+            VersionedUserPointStore.Versioned current = versionedUserPointStore.read(userId);
+            PointLedger.Plan plan = PointLedger.plan(current.userPoint().point(), operations);
+            if (!plan.changed()) {
+                return plan.outcomes(userId, current.userPoint().updateMillis());
+            }
+
+            // 내역은 버전을 올리기 전에 기록해, 같은 유저의 내역 순서가 잔액이 바뀐 순서와 같게 합니다.
+            VersionedUserPointStore.Versioned saved = versionedUserPointStore.compareAndSet(userId, current.version(), plan.point(),
+                    userPoint -> pointLedger.recordHistory(userId, plan.applied()));
+            if (saved != null) {
+                return plan.outcomes(userId, saved.userPoint().updateMillis());
+            }
+
+            counter(conflicts, "point.optimistic.conflicts", "Optimistic point updates retried after a version conflict", operation).increment();
+            if (attempt == maxAttempts) {
+                counter(exhausted, "point.optimistic.exhausted", "Optimistic point updates that ran out of retries", operation).increment();
+                throw new ConcurrentUpdateException("Point of user " + userId + " was updated concurrently. Please retry.");
+            }
+            backoff(attempt);
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffNanos, backoffNanos << Math.min(attempt - 1, 30));
+        if (ceiling > 0) {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        }
+    }
+
+    private Counter counter(ConcurrentHashMap<String, Counter> counters, String name, String description, String operation) {
+        Counter counter = counters.get(operation);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(operation, key -> Counter.builder(name)
+                    .description(description)
+                    .tag("type", key)
+                    .register(registry));
+        }
+        return counter;
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.UserPoint;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 포인트 충전/사용 연산을 실행하는 방식입니다. (point.concurrency.mode 로 선택)
+ * 구현체는 같은 유저의 연산이 동시에 잔액을 읽고 쓰지 않도록 보장해야 합니다.
+ */
+public interface PointCommandEngine {
+
+    // 연산 하나를 실행합니다. 실패하면 future 가 해당 예외로 완료됩니다.
+    CompletableFuture<UserPoint> execute(PointOperation operation);
+
+    // 한 유저의 연산들을 순서대로 실행합니다. (PointLedger.applyAll 과 같은 결과)
+    CompletableFuture<List<PointOperationResult>> executeAll(long userId, List<PointOperation> operations);
+}
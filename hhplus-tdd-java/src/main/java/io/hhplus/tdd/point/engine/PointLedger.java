@@ -0,0 +1,161 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.Exception.InsufficientPointsException;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 유저의 잔액에 충전/사용 연산을 적용하고 내역을 남깁니다.
+ * 같은 유저에 대해 동시에 호출되지 않도록 보장하는 것은 호출하는 쪽(PointCommandEngine)의 책임입니다.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class PointLedger {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    // 연산 하나를 적용합니다. 잔액이 부족하면 InsufficientPointsException 을 던집니다.
+    public UserPoint apply(PointOperation operation) {
+        long userId = operation.userId();
+        UserPoint userPoint = userPointRepository.selectById(userId);
+
+        UserPoint updatedPoint = userPointRepository.insertOrUpdate(userId, applyTo(userPoint.point(), operation));
+        pointHistoryRepository.insert(userId, operation.amount(), operation.type(), System.currentTimeMillis());
+
+        if (log.isDebugEnabled()) {
+            log.debug(pointHistoryRepository.selectAllByUserId(userId).toString()); //검증
+        }
+
+        return updatedPoint;
+    }
+
+    // 한 유저의 연산들을 순서대로 적용하고, 잔액은 마지막에 한 번만 저장합니다.
+    // 검증에 실패하거나 잔액이 부족한 연산만 실패로 기록되며, 결과의 index 는 operations 안에서의 위치입니다.
+    public List<PointOperationResult> applyAll(long userId, List<PointOperation> operations) {
+        List<Outcome> outcomes = applyEach(userId, operations);
+
+        List<PointOperationResult> results = new ArrayList<>(outcomes.size());
+        for (int index = 0; index < outcomes.size(); index++) {
+            results.add(outcomes.get(index).toResult(index));
+        }
+        return results;
+    }
+
+    // applyAll 과 같지만, 연산마다 적용 직후의 잔액(실패했다면 변경되지 않은 잔액)과 실패 예외를 그대로 돌려줍니다.
+    public List<Outcome> applyEach(long userId, List<PointOperation> operations) {
+        Plan plan = plan(userPointRepository.selectById(userId).point(), operations);
+
+        long updateMillis = System.currentTimeMillis();
+        if (plan.changed()) {
+            updateMillis = userPointRepository.insertOrUpdate(userId, plan.point()).updateMillis();
+            recordHistory(userId, plan.applied());
+        }
+        return plan.outcomes(userId, updateMillis);
+    }
+
+    // 잔액 저장에 성공한 연산들의 내역을 남깁니다.
+    void recordHistory(long userId, List<PointOperation> applied) {
+        for (PointOperation operation : applied) {
+            pointHistoryRepository.insert(userId, operation.amount(), operation.type(), System.currentTimeMillis());
+        }
+    }
+
+    // 저장하지 않고 point 에 연산들을 순서대로 적용해 봅니다. 검증에 실패하거나 잔액이 부족한 연산은 건너뜁니다.
+    static Plan plan(long point, List<PointOperation> operations) {
+        long[] points = new long[operations.size()];
+        RuntimeException[] failures = new RuntimeException[operations.size()];
+        List<PointOperation> applied = new ArrayList<>();
+
+        for (int index = 0; index < operations.size(); index++) {
+            PointOperation operation = operations.get(index);
+            try {
+                point = applyTo(point, operation);
+                applied.add(operation);
+            }
+            catch (IllegalArgumentException | InsufficientPointsException e) {
+                failures[index] = e;
+            }
+            points[index] = point;
+        }
+        return new Plan(operations, points, failures, applied, point);
+    }
+
+    // point 는 모든 연산을 적용한 뒤의 잔액, applied 는 실제로 적용된 연산입니다.
+    record Plan(List<PointOperation> operations, long[] points, RuntimeException[] failures,
+                List<PointOperation> applied, long point) {
+
+        boolean changed() {
+            return !applied.isEmpty();
+        }
+
+        List<Outcome> outcomes(long userId, long updateMillis) {
+            List<Outcome> outcomes = new ArrayList<>(operations.size());
+            for (int index = 0; index < operations.size(); index++) {
+                outcomes.add(new Outcome(operations.get(index), new UserPoint(userId, points[index], updateMillis), failures[index]));
+            }
+            return outcomes;
+        }
+    }
+
+    public record Outcome(PointOperation operation, UserPoint userPoint, RuntimeException failure) {
+
+        public PointOperationResult toResult(int index) {
+            return failure == null
+                    ? PointOperationResult.success(index, operation, userPoint.point())
+                    : PointOperationResult.failure(index, operation, userPoint.point(), failure.getMessage());
+        }
+    }
+
+    static long applyTo(long point, PointOperation operation) {
+        if (operation.type() == null) {
+            throw new IllegalArgumentException("Transaction type must not be null.");
+        }
+
+        return switch (operation.type()) {
+            case CHARGE -> {
+                validateChargeAmount(operation.amount());
+                yield point + operation.amount();
+            }
+            case USE -> {
+                validateUseAmount(operation.amount());
+                if (point < operation.amount()) {
+                    log.error("User doesn't have enough charging points.");
+
+                    throw new InsufficientPointsException("User doesn't have enough charging points.");
+                }
+                yield point - operation.amount();
+            }
+        };
+    }
+
+    public static void validateChargeAmount(long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Amount must be greater than zero.");
+        }
+
+        if (amount < 1000) {
+            throw new IllegalArgumentException("Amount must be more than 1000.");
+        }
+    }
+
+    public static void validateUseAmount(long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Amount must be greater than zero.");
+        }
+
+        if (amount > 5000) {
+            throw new IllegalArgumentException("Amount must be less than 5000.");
+        }
+    }
+}
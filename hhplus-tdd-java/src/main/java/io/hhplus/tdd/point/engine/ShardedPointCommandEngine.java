@@ -0,0 +1,162 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.UserPoint;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 유저 ID 의 해시로 연산을 N 개의 shard 중 하나에 보내고, 각 shard 의 전용 스레드가 순서대로 실행합니다.
+ * - 한 유저의 연산은 항상 같은 스레드에서 하나씩 실행되므로 락 없이도 잔액을 동시에 읽고 쓰지 않습니다.
+ * - shard 의 대기열(mailbox)이 가득 차면 연산을 보낸 스레드가 자리가 날 때까지 대기합니다. (backpressure)
+ * - 종료 시 새 연산은 거부하고, 대기열에 남은 연산은 모두 실행한 뒤 종료합니다.
+ *
+ * shard 스레드가 저장소 I/O 를 직접 기다리므로, 저장소가 느릴수록 shard 수를 늘려야 처리량이 유지됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "point.concurrency", name = "mode", havingValue = "sharded")
+public class ShardedPointCommandEngine implements PointCommandEngine, AutoCloseable {
+
+    private static final long POLL_MILLIS = 100L;
+
+    private final PointLedger pointLedger;
+    private final Shard[] shards;
+
+    private volatile boolean closed;
+
+    @Autowired
+    public ShardedPointCommandEngine(PointLedger pointLedger, PointProperties properties) {
+        this(pointLedger, properties.getConcurrency().getSharded().shardCount(),
+                properties.getConcurrency().getSharded().getMailboxCapacity());
+    }
+
+    public ShardedPointCommandEngine(PointLedger pointLedger, int shardCount, int mailboxCapacity) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be greater than zero.");
+        }
+        this.pointLedger = pointLedger;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, mailboxCapacity);
+        }
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> execute(PointOperation operation) {
+        return submit(operation.userId(), () -> pointLedger.apply(operation));
+    }
+
+    @Override
+    public CompletableFuture<List<PointOperationResult>> executeAll(long userId, List<PointOperation> operations) {
+        return submit(userId, () -> pointLedger.applyAll(userId, operations));
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        closed = true;
+        for (Shard shard : shards) {
+            try {
+                shard.thread.join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while draining point shard {}. {} commands are not executed.", shard.index, shard.mailbox.size());
+                return;
+            }
+        }
+    }
+
+    // 같은 유저는 항상 같은 shard 로 보냅니다.
+    int shardOf(long userId) {
+        return Math.floorMod(Long.hashCode(userId), shards.length);
+    }
+
+    private <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Point command engine is already closed."));
+        }
+
+        Command<T> command = new Command<>(task);
+        Shard shard = shards[shardOf(userId)];
+        try {
+            shard.mailbox.put(command);  // 대기열이 가득 차면 대기
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new IllegalStateException("Interrupted while waiting for the point shard mailbox.", e));
+        }
+
+        // 넣는 사이에 종료되어 shard 스레드가 이미 끝났을 수 있으므로, 아직 대기열에 남아 있다면 꺼내서 거부합니다.
+        if (closed && shard.mailbox.remove(command)) {
+            command.future.completeExceptionally(new IllegalStateException("Point command engine is already closed."));
+        }
+        return command.future;
+    }
+
+    private final class Shard {
+        private final int index;
+        private final BlockingQueue<Command<?>> mailbox;
+        private final Thread thread;
+
+        private Shard(int index, int mailboxCapacity) {
+            this.index = index;
+            this.mailbox = new ArrayBlockingQueue<>(mailboxCapacity);
+            this.thread = new Thread(this::run, "point-shard-" + index);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        private void run() {
+            while (true) {
+                Command<?> command;
+                try {
+                    command = mailbox.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                catch (InterruptedException e) {
+                    continue;  // 남은 연산을 모두 실행할 때까지 종료하지 않습니다.
+                }
+
+                if (command == null) {
+                    if (closed && mailbox.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+
+                command.run();
+            }
+        }
+    }
+
+    private static final class Command<T> {
+        private final Supplier<T> task;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Command(Supplier<T> task) {
+            this.task = task;
+        }
+
+        private void run() {
+            try {
+                future.complete(task.get());
+            }
+            catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
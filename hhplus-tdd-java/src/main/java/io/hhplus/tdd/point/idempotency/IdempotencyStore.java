@@ -0,0 +1,163 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.UserPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별로 충전/사용 결과를 기억해, 같은 키로 다시 들어온 요청은 실행하지 않고 처음 결과를 돌려줍니다.
+ * - 처음 요청이 아직 실행 중이면 같은 future 를 기다립니다.
+ * - 성공한 결과만 기억합니다. 실패하면 키를 지우므로 재시도하면 다시 실행됩니다.
+ * - 키는 ttl 이 지나면 만료되고, maximumSize 를 넘으면 오래된 키부터 지웁니다.
+ *   (ttl 이 모두 같으므로 저장 순서가 곧 만료 순서입니다.)
+ *   실패해 지운 키도 저장 순서 목록에서는 밀려날 때까지 한 자리를 차지하므로, 목록과 기억하는 결과 모두 maximumSize 를 넘지 않습니다.
+ * - 같은 키를 다른 유저/종류/금액의 요청에 쓰면 IllegalArgumentException 을 던집니다.
+ * - 호출자마다 결과 future 의 복사본을 돌려주므로, 호출자가 future 를 완료시켜도(orTimeout 등) 기억한 결과는 바뀌지 않습니다.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();  // insertionOrder 의 크기 (ConcurrentLinkedQueue.size 는 O(n) 입니다)
+
+    @Autowired
+    public IdempotencyStore(PointProperties properties) {
+        this(properties.getIdempotency().getMaximumSize(),
+                TimeUnit.SECONDS.toNanos(properties.getIdempotency().getTtlSeconds()), System::nanoTime);
+    }
+
+    public IdempotencyStore(int maximumSize, long ttlNanos, LongSupplier nanoTime) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero.");
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttlNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    // key 로 처음 들어온 요청이면 action 을 실행하고, 아니면 처음 요청의 결과(또는 실행 중인 future)를 돌려줍니다.
+    public CompletableFuture<UserPoint> execute(String key, PointOperation operation, Supplier<CompletableFuture<UserPoint>> action) {
+        validateKey(key);
+
+        long now = nanoTime.getAsLong();
+        evictExpired(now);
+
+        while (true) {
+            Entry existing = entries.get(key);
+            if (existing != null && existing.isExpired(now)) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (existing != null) {
+                if (!existing.operation.equals(operation)) {
+                    throw new IllegalArgumentException("Idempotency-Key was already used for a different request.");
+                }
+                return existing.future.copy();
+            }
+
+            Entry created = new Entry(key, operation, now + ttlNanos);
+            if (entries.putIfAbsent(key, created) != null) {
+                continue;  // 다른 스레드가 먼저 넣었으면 그 결과를 기다립니다.
+            }
+            insertionOrder.add(created);
+            queued.incrementAndGet();
+            evictOverflow();
+
+            run(created, action);
+            return created.future.copy();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    int queuedCount() {
+        return queued.get();
+    }
+
+    private void run(Entry entry, Supplier<CompletableFuture<UserPoint>> action) {
+        CompletableFuture<UserPoint> result;
+        try {
+            result = action.get();
+        }
+        catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((userPoint, failure) -> {
+            if (failure != null) {
+                entries.remove(entry.key, entry);
+                entry.future.completeExceptionally(failure);
+            }
+            else {
+                entry.future.complete(userPoint);
+            }
+        });
+    }
+
+    private void evictExpired(long now) {
+        Entry eldest;
+        while ((eldest = insertionOrder.peek()) != null && eldest.isExpired(now)) {
+            if (insertionOrder.remove(eldest)) {
+                queued.decrementAndGet();
+                entries.remove(eldest.key, eldest);
+            }
+        }
+    }
+
+    // 실행 중인 키가 지워지면 그 키로 다시 들어온 요청은 한 번 더 실행됩니다. maximumSize 는 동시 요청 수보다 넉넉해야 합니다.
+    // entries 는 insertionOrder 에 있는 키만 가지므로 insertionOrder 의 크기만 제한하면 됩니다.
+    private void evictOverflow() {
+        while (queued.get() > maximumSize) {
+            Entry eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            queued.decrementAndGet();
+            entries.remove(eldest.key, eldest);
+        }
+    }
+
+    private static void validateKey(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Idempotency-Key must not be blank.");
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters.");
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final PointOperation operation;
+        private final long expiresAt;
+        private final CompletableFuture<UserPoint> future = new CompletableFuture<>();
+
+        private Entry(String key, PointOperation operation, long expiresAt) {
+            this.key = key;
+            this.operation = operation;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
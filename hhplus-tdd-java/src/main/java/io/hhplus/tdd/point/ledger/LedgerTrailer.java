@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.ledger;
+
+/**
+ * 원장 파일 끝에 기록되는 요약
+ * - lastId : 이번에 내보낸 범위의 마지막 ID. 다음 내보내기의 afterId 로 넘기면 이어서 내보냅니다.
+ * - rows : 파일에 담긴 내역 수
+ */
+public record LedgerTrailer(
+        long lastId,
+        long rows
+) {
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 매핑 파일 내역 로그를 원장 파일로 내보내는 CLI 입니다. (앱이 실행 중이어도 기록이 끝난 슬롯까지만 읽습니다)
+ * 내역 로그는 읽기 전용으로 열며, 파일을 만들거나 늘리지 않습니다.
+ * ex) ./gradlew exportLedger -Pledger.log=data/point-history.log -Pledger.out=build/ledger/point-ledger.plx -Pledger.after-id=0
+ */
+public final class PointLedgerExportCommand {
+
+    private PointLedgerExportCommand() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("usage: PointLedgerExportCommand <history-log> <output-file> [after-id]");
+            System.exit(2);
+        }
+        Path log = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        long afterId = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+        if (!Files.exists(log)) {
+            System.err.println("History log not found: " + log);
+            System.exit(1);
+        }
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (MappedPointHistoryRepository historyLog = MappedPointHistoryRepository.openReadOnly(log);
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(output))) {
+            LedgerTrailer trailer = new PointLedgerExporter(historyLog).export(afterId, out);
+            System.out.printf("exported %d histories (after id %d, last id %d) to %s (%d bytes)%n",
+                    trailer.rows(), afterId, trailer.lastId(), output, Files.size(output));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryScanner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 저장된 포인트 내역 전체(또는 afterId 이후)를 원장 파일 형식으로 내보냅니다.
+ * - 매핑 파일 저장소는 ID 순서대로, 테이블 저장소는 유저별 인덱스를 유저 단위로 읽습니다.
+ * - 시작할 때의 lastId 까지만 내보내므로, 트레일러의 lastId 를 다음 afterId 로 넘기면 빠짐없이 이어집니다.
+ * - write-behind 큐에서 아직 저장되지 않은 내역은 다음 내보내기에 포함됩니다.
+ */
+@Component
+public class PointLedgerExporter {
+
+    private final PointHistoryScanner scanner;
+
+    @Autowired
+    public PointLedgerExporter(
+            ObjectProvider<MappedPointHistoryRepository> mappedPointHistoryRepository,
+            @Qualifier("pointHistoryStore") PointHistoryRepository pointHistoryStore
+    ) {
+        this(scanner(mappedPointHistoryRepository.getIfAvailable(), pointHistoryStore));
+    }
+
+    public PointLedgerExporter(PointHistoryScanner scanner) {
+        this.scanner = scanner;
+    }
+
+    private static PointHistoryScanner scanner(MappedPointHistoryRepository mapped, PointHistoryRepository store) {
+        if (mapped != null) {
+            return mapped;
+        }
+        return store instanceof PointHistoryScanner scanner ? scanner : null;
+    }
+
+    // 응답을 쓰기 시작하기 전에 내보낼 수 있는 저장소인지 확인할 때 사용합니다.
+    public void checkAvailable() {
+        if (scanner == null) {
+            throw new IllegalStateException("Ledger export needs the mapped history store or the history index.");
+        }
+    }
+
+    public LedgerTrailer export(long afterId, OutputStream out) throws IOException {
+        if (afterId < 0) {
+            throw new IllegalArgumentException("afterId must not be negative.");
+        }
+        checkAvailable();
+
+        long toId = scanner.lastId();
+        PointLedgerWriter writer = new PointLedgerWriter(out);
+        try {
+            scanner.forEach(afterId, toId, pointHistory -> {
+                try {
+                    writer.write(pointHistory);
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return writer.finish(Math.max(afterId, toId));
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 포인트 원장 파일 형식
+ * - 파일 : magic "PLX1"(4) | block* | 0(varint) | lastId(varint) | rows(varint)
+ * - block : rows(varint) | rawLength(varint) | compressedLength(varint) | deflate(columns)
+ * - columns (행 BLOCK_ROWS 개까지, 컬럼별로 이어 붙임)
+ *   id, userId, updateMillis : 블록 안에서 앞 행과의 차이를 zigzag varint 로
+ *   amount : zigzag varint
+ *   type : 행마다 TYPE_BITS 비트씩 LSB 부터 채운 비트열
+ *
+ * varint 는 7비트씩 나눠 낮은 자리부터 쓰고, 뒤에 더 있으면 최상위 비트를 1로 둡니다.
+ */
+final class PointLedgerFormat {
+
+    static final int MAGIC = 0x504C5831;  // "PLX1"
+    static final int BLOCK_ROWS = 4096;
+    static final TransactionType[] TYPES = TransactionType.values();
+    static final int TYPE_BITS = Math.max(1, 32 - Integer.numberOfLeadingZeros(TYPES.length - 1));
+    static final int MAX_VARINT_BYTES = 10;
+
+    // 블록 하나의 컬럼을 압축 전에 담을 수 있는 최대 크기
+    static final int MAX_RAW_BLOCK_BYTES = BLOCK_ROWS * 4 * MAX_VARINT_BYTES + typeBytes(BLOCK_ROWS);
+
+    private PointLedgerFormat() {
+    }
+
+    static int typeBytes(int rows) {
+        return (rows * TYPE_BITS + 7) / 8;
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // buffer[position..] 에 value 를 쓰고 다음 위치를 돌려줍니다.
+    static int putVarint(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+}
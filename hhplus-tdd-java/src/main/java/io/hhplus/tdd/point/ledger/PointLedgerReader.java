@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.dto.PointHistory;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static io.hhplus.tdd.point.ledger.PointLedgerFormat.*;
+
+/**
+ * PointLedgerWriter 가 쓴 원장을 블록 단위로 풀어 내역을 하나씩 넘겨줍니다.
+ * 블록 하나 분량의 버퍼만 사용하며, 끝 표시 없이 스트림이 끝나면 EOFException 을 던집니다.
+ */
+public class PointLedgerReader {
+
+    private final DataInputStream in;
+    private final Inflater inflater = new Inflater();
+    private final byte[] raw = new byte[MAX_RAW_BLOCK_BYTES];
+    private byte[] compressed = new byte[MAX_RAW_BLOCK_BYTES / 4];
+    private final long[] ids = new long[BLOCK_ROWS];
+    private final long[] userIds = new long[BLOCK_ROWS];
+    private final long[] amounts = new long[BLOCK_ROWS];
+    private final long[] updateMillis = new long[BLOCK_ROWS];
+    private int position;
+
+    public PointLedgerReader(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    public LedgerTrailer read(Consumer<PointHistory> action) throws IOException {
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a point ledger file.");
+            }
+
+            while (true) {
+                int rows = (int) readVarint();
+                if (rows == 0) {
+                    return new LedgerTrailer(readVarint(), readVarint());
+                }
+                if (rows > BLOCK_ROWS) {
+                    throw new IOException("Corrupted point ledger block: " + rows + " rows.");
+                }
+                readBlock(rows, action);
+            }
+        }
+        finally {
+            inflater.end();
+        }
+    }
+
+    private void readBlock(int rows, Consumer<PointHistory> action) throws IOException {
+        int rawLength = (int) readVarint();
+        int compressedLength = (int) readVarint();
+        if (rawLength > raw.length) {
+            throw new IOException("Corrupted point ledger block: " + rawLength + " bytes.");
+        }
+        if (compressedLength > compressed.length) {
+            compressed = new byte[compressedLength];
+        }
+        in.readFully(compressed, 0, compressedLength);
+
+        inflater.reset();
+        inflater.setInput(compressed, 0, compressedLength);
+        try {
+            if (inflater.inflate(raw, 0, rawLength) != rawLength) {
+                throw new IOException("Corrupted point ledger block: truncated columns.");
+            }
+        }
+        catch (DataFormatException e) {
+            throw new IOException("Corrupted point ledger block.", e);
+        }
+
+        position = 0;
+        getDeltas(ids, rows);
+        getDeltas(userIds, rows);
+        for (int i = 0; i < rows; i++) {
+            amounts[i] = unzigzag(getVarint());
+        }
+        getDeltas(updateMillis, rows);
+
+        int typeStart = position;
+        int mask = (1 << TYPE_BITS) - 1;
+        for (int i = 0; i < rows; i++) {
+            int bit = i * TYPE_BITS;
+            int type = (raw[typeStart + bit / 8] >>> (bit % 8)) & mask;
+            action.accept(new PointHistory(ids[i], userIds[i], amounts[i], TYPES[type], updateMillis[i]));
+        }
+    }
+
+    private void getDeltas(long[] column, int rows) {
+        long previous = 0;
+        for (int i = 0; i < rows; i++) {
+            previous += unzigzag(getVarint());
+            column[i] = previous;
+        }
+    }
+
+    private long getVarint() {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = raw[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Point ledger ended without a trailer.");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupted point ledger varint.");
+    }
+}
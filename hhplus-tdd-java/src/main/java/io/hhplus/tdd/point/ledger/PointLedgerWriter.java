@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.dto.PointHistory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static io.hhplus.tdd.point.ledger.PointLedgerFormat.*;
+
+/**
+ * 내역을 BLOCK_ROWS 개씩 모아 컬럼별로 인코딩하고 압축해 씁니다. (형식은 PointLedgerFormat 참고)
+ * 블록 하나 분량의 버퍼만 재사용하므로 내보내는 내역 수와 상관없이 메모리 사용량이 일정합니다.
+ */
+public class PointLedgerWriter {
+
+    private final OutputStream out;
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+
+    private final long[] ids = new long[BLOCK_ROWS];
+    private final long[] userIds = new long[BLOCK_ROWS];
+    private final long[] amounts = new long[BLOCK_ROWS];
+    private final long[] updateMillis = new long[BLOCK_ROWS];
+    private final byte[] types = new byte[BLOCK_ROWS];
+    private int rows;
+
+    private final byte[] raw = new byte[MAX_RAW_BLOCK_BYTES];
+    private byte[] compressed = new byte[MAX_RAW_BLOCK_BYTES / 4];
+    private final byte[] header = new byte[MAX_VARINT_BYTES * 3];
+
+    private long totalRows;
+    private boolean finished;
+
+    public PointLedgerWriter(OutputStream out) throws IOException {
+        this.out = out;
+        out.write(new byte[]{(byte) (MAGIC >>> 24), (byte) (MAGIC >>> 16), (byte) (MAGIC >>> 8), (byte) MAGIC});
+    }
+
+    public void write(PointHistory pointHistory) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("Ledger is already finished.");
+        }
+        ids[rows] = pointHistory.id();
+        userIds[rows] = pointHistory.userId();
+        amounts[rows] = pointHistory.amount();
+        updateMillis[rows] = pointHistory.updateMillis();
+        types[rows] = (byte) pointHistory.type().ordinal();
+        rows++;
+        totalRows++;
+
+        if (rows == BLOCK_ROWS) {
+            writeBlock();
+        }
+    }
+
+    // 남은 블록과 끝 표시, 요약을 쓰고 스트림을 flush 합니다. (스트림은 닫지 않습니다)
+    public LedgerTrailer finish(long lastId) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("Ledger is already finished.");
+        }
+        if (rows > 0) {
+            writeBlock();
+        }
+        finished = true;
+        deflater.end();
+
+        int length = putVarint(header, 0, 0);
+        length = putVarint(header, length, lastId);
+        length = putVarint(header, length, totalRows);
+        out.write(header, 0, length);
+        out.flush();
+        return new LedgerTrailer(lastId, totalRows);
+    }
+
+    private void writeBlock() throws IOException {
+        int rawLength = encodeColumns();
+
+        deflater.reset();
+        deflater.setInput(raw, 0, rawLength);
+        deflater.finish();
+        int compressedLength = 0;
+        while (!deflater.finished()) {
+            if (compressedLength == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+        }
+
+        int length = putVarint(header, 0, rows);
+        length = putVarint(header, length, rawLength);
+        length = putVarint(header, length, compressedLength);
+        out.write(header, 0, length);
+        out.write(compressed, 0, compressedLength);
+        rows = 0;
+    }
+
+    private int encodeColumns() {
+        int position = putDeltas(ids, 0);
+        position = putDeltas(userIds, position);
+        for (int i = 0; i < rows; i++) {
+            position = putVarint(raw, position, zigzag(amounts[i]));
+        }
+        position = putDeltas(updateMillis, position);
+
+        int typeStart = position;
+        int typeLength = typeBytes(rows);
+        Arrays.fill(raw, typeStart, typeStart + typeLength, (byte) 0);
+        for (int i = 0; i < rows; i++) {
+            int bit = i * TYPE_BITS;
+            raw[typeStart + bit / 8] |= (byte) (types[i] << (bit % 8));
+        }
+        return typeStart + typeLength;
+    }
+
+    private int putDeltas(long[] column, int position) {
+        long previous = 0;
+        for (int i = 0; i < rows; i++) {
+            position = putVarint(raw, position, zigzag(column[i] - previous));
+            previous = column[i];
+        }
+        return position;
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.lock;
+
+/**
+ * UserLockManager 가 락을 요청/획득/반납할 때 호출되는 리스너입니다.
+ * 락을 잡은 스레드에서 동기적으로 호출되므로 오래 걸리는 작업을 하면 안 됩니다.
+ */
+public interface UserLockListener {
+
+    default void onRequested(long userId, String operation) {
+    }
+
+    // waitNanos: 락을 요청한 뒤 획득하기까지 기다린 시간
+    default void onAcquired(long userId, String operation, long waitNanos) {
+    }
+
+    // holdNanos: 락을 잡고 작업을 실행한 시간, failure: 작업이 던진 예외 (성공이면 null)
+    default void onReleased(long userId, String operation, long holdNanos, Throwable failure) {
+    }
+}
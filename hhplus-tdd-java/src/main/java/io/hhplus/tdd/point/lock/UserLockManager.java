@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 유저 ID 단위로 락을 빌려주는 레지스트리입니다.
+ * - 같은 유저의 요청은 하나의 ReentrantLock 으로 직렬화되고, 서로 다른 유저의 요청은 병렬로 실행됩니다.
+ * - 락을 기다리거나 잡고 있는 스레드 수(참조 카운트)가 0이 되면 엔트리를 제거하므로,
+ *   레지스트리의 크기는 동시에 처리 중인 유저 수를 넘지 않습니다.
+ * - 등록된 UserLockListener 에 락 대기/보유 시간을 알려줍니다. (리스너가 없으면 시간을 재지 않습니다.)
+ */
+@Component
+public class UserLockManager {
+
+    private final ConcurrentHashMap<Long, LockEntry> locks = new ConcurrentHashMap<>();
+    private final UserLockListener[] listeners;
+
+    public UserLockManager() {
+        this(List.of());
+    }
+
+    public UserLockManager(List<UserLockListener> listeners) {
+        this.listeners = listeners.toArray(UserLockListener[]::new);
+    }
+
+    @Autowired
+    public UserLockManager(ObjectProvider<UserLockListener> listeners) {
+        this(listeners.orderedStream().toList());
+    }
+
+    public <T> T executeWithLock(long userId, String operation, Supplier<T> task) {
+        if (listeners.length == 0) {
+            return executeWithLock(userId, task);
+        }
+
+        for (UserLockListener listener : listeners) {
+            listener.onRequested(userId, operation);
+        }
+        long requestedAt = System.nanoTime();
+
+        LockEntry entry = retain(userId);
+        entry.lock.lock();
+        long acquiredAt = System.nanoTime();
+        Throwable failure = null;
+        try {
+            for (UserLockListener listener : listeners) {
+                listener.onAcquired(userId, operation, acquiredAt - requestedAt);
+            }
+            return task.get();
+        }
+        catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        }
+        finally {
+            long holdNanos = System.nanoTime() - acquiredAt;
+            entry.lock.unlock();
+            release(userId);
+
+            for (UserLockListener listener : listeners) {
+                listener.onReleased(userId, operation, holdNanos, failure);
+            }
+        }
+    }
+
+    public <T> T executeWithLock(long userId, Supplier<T> task) {
+        LockEntry entry = retain(userId);
+        entry.lock.lock();
+        try {
+            return task.get();
+        }
+        finally {
+            entry.lock.unlock();
+            release(userId);
+        }
+    }
+
+    // 현재 레지스트리에 남아있는 락 개수 (기다리거나 실행 중인 유저 수)
+    public int activeLockCount() {
+        return locks.size();
+    }
+
+    private LockEntry retain(long userId) {
+        return locks.compute(userId, (id, entry) -> {
+            LockEntry retained = entry == null ? new LockEntry() : entry;
+            retained.references++;
+            return retained;
+        });
+    }
+
+    private void release(long userId) {
+        locks.computeIfPresent(userId, (id, entry) -> --entry.references == 0 ? null : entry);
+    }
+
+    private static final class LockEntry {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int references;  // compute 블록 안에서만 변경됩니다.
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 락 대기가 많은 유저 top-N 을 보여주는 actuator 엔드포인트입니다.
+ * - GET /actuator/hotkeys?limit=10
+ * - DELETE /actuator/hotkeys : 집계를 초기화합니다. (hot key 를 격리한 뒤 다시 관찰할 때)
+ * 인증 없이 가장 바쁜 유저 ID 를 보여주고 집계를 지울 수 있으므로 웹에는 기본으로 노출하지 않습니다.
+ * (management.endpoints.web.exposure.include 에 hotkeys 를 더하고, management.server.port 로 내부망에만 여세요)
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@ConditionalOnProperty(prefix = "point.metrics.hot-keys", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeyEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final HotKeyTracker hotKeyTracker;
+
+    public HotKeyEndpoint(HotKeyTracker hotKeyTracker) {
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    @ReadOperation
+    public List<HotKeyTracker.HotKeySnapshot> hotKeys(@Nullable Integer limit) {
+        return hotKeyTracker.top(limit == null ? DEFAULT_LIMIT : limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        hotKeyTracker.reset();
+    }
+}
@@ -0,0 +1,206 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.lock.UserLockListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 락 대기가 많은 유저(hot key)를 추적합니다.
+ * - 유저별 가중치(연산 1건당 1 + 락 대기 1µs 당 1)를 count-min sketch 에 락 없이 더합니다.
+ *   전체 유저를 따로 세지 않으므로 메모리는 유저 수와 상관없이 일정합니다.
+ * - sketch 추정치가 추적 중인 유저들의 최소값을 넘은 유저만 후보(최대 capacity 명)에 올리고,
+ *   후보가 넘치면 추정치가 가장 작은 유저를 내보냅니다. 후보 교체만 락 안에서 실행됩니다.
+ * - 후보가 된 뒤부터 유저별 연산 수와 락 대기 시간 분포(2의 거듭제곱 구간)를 기록합니다.
+ *
+ * UserLockManager 를 거치는 연산(lock, combining 모드와 배치)만 집계됩니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.metrics.hot-keys", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeyTracker implements UserLockListener {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1 << 12;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final int capacity;
+    private final AtomicLongArray sketch = new AtomicLongArray(SKETCH_DEPTH * SKETCH_WIDTH);
+    private final ConcurrentHashMap<Long, HotKey> candidates = new ConcurrentHashMap<>();
+    private final ReentrantLock admissionLock = new ReentrantLock();
+    private volatile long admissionThreshold;  // 후보가 가득 찼을 때 들어오려면 넘어야 하는 추정치
+
+    @Autowired
+    public HotKeyTracker(PointProperties properties) {
+        this(properties.getMetrics().getHotKeys().getCapacity());
+    }
+
+    public HotKeyTracker(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Hot key capacity must be positive.");
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void onAcquired(long userId, String operation, long waitNanos) {
+        long estimate = addToSketch(userId, 1 + waitNanos / 1_000);
+
+        HotKey hotKey = candidates.get(userId);
+        if (hotKey == null) {
+            if (estimate <= admissionThreshold) {
+                return;
+            }
+            hotKey = admit(userId, estimate);
+            if (hotKey == null) {
+                return;
+            }
+        }
+        hotKey.record(waitNanos, estimate);
+    }
+
+    // 추정 가중치가 큰 순서로 최대 limit 명
+    public List<HotKeySnapshot> top(int limit) {
+        return candidates.values().stream()
+                .map(HotKey::snapshot)
+                .sorted(Comparator.comparingLong(HotKeySnapshot::estimatedWeight).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        admissionLock.lock();
+        try {
+            candidates.clear();
+            admissionThreshold = 0;
+            for (int i = 0; i < sketch.length(); i++) {
+                sketch.set(i, 0);
+            }
+        }
+        finally {
+            admissionLock.unlock();
+        }
+    }
+
+    // 행마다 weight 를 더하고, 그중 가장 작은 값(가장 덜 부풀려진 값)을 추정치로 돌려줍니다.
+    private long addToSketch(long userId, long weight) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            estimate = Math.min(estimate, sketch.addAndGet(row * SKETCH_WIDTH + column(userId, row), weight));
+        }
+        return estimate;
+    }
+
+    private static int column(long userId, int row) {
+        long hash = (userId ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        return (int) (hash >>> 52) & (SKETCH_WIDTH - 1);
+    }
+
+    private HotKey admit(long userId, long estimate) {
+        admissionLock.lock();
+        try {
+            HotKey hotKey = candidates.computeIfAbsent(userId, id -> new HotKey(id, estimate));
+            if (candidates.size() > capacity) {
+                HotKey coldest = candidates.values().stream()
+                        .min(Comparator.comparingLong(HotKey::estimate))
+                        .orElseThrow();
+                candidates.remove(coldest.userId);
+                if (coldest == hotKey) {
+                    return null;
+                }
+            }
+            if (candidates.size() == capacity) {
+                admissionThreshold = candidates.values().stream().mapToLong(HotKey::estimate).min().orElse(0);
+            }
+            return hotKey;
+        }
+        finally {
+            admissionLock.unlock();
+        }
+    }
+
+    /**
+     * 락 대기 시간 단위는 ms 이며, 백분위수는 2의 거듭제곱 구간의 상한값입니다.
+     * operations, 대기 시간은 후보가 된 뒤부터 센 값이고 estimatedWeight 는 처음부터의 sketch 추정치입니다.
+     */
+    public record HotKeySnapshot(
+            long userId,
+            long estimatedWeight,
+            long operations,
+            double totalWaitMillis,
+            double p50WaitMillis,
+            double p99WaitMillis,
+            double maxWaitMillis
+    ) {
+    }
+
+    private static final class HotKey {
+        private static final int BUCKETS = 64;
+
+        private final long userId;
+        private volatile long estimate;
+        private final LongAdder operations = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray waitBuckets = new AtomicLongArray(BUCKETS);  // i 번째 구간 : 2^(i-1) <= wait < 2^i ns
+
+        private HotKey(long userId, long estimate) {
+            this.userId = userId;
+            this.estimate = estimate;
+        }
+
+        private long estimate() {
+            return estimate;
+        }
+
+        private void record(long waitNanos, long estimate) {
+            this.estimate = estimate;
+            operations.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulate(waitNanos);
+            waitBuckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(Math.max(waitNanos, 0)));
+        }
+
+        private HotKeySnapshot snapshot() {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = waitBuckets.get(i);
+                total += counts[i];
+            }
+            return new HotKeySnapshot(
+                    userId,
+                    estimate,
+                    operations.sum(),
+                    millis(totalWaitNanos.sum()),
+                    millis(percentile(counts, total, 0.5)),
+                    millis(percentile(counts, total, 0.99)),
+                    millis(maxWaitNanos.get())
+            );
+        }
+
+        private static long percentile(long[] counts, long total, double quantile) {
+            long rank = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    return i == 0 ? 0 : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
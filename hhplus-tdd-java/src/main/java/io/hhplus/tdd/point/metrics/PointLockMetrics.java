@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.Exception.InsufficientPointsException;
+import io.hhplus.tdd.point.lock.UserLockListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 유저 락 이벤트로 포인트 연산 지표를 기록합니다.
+ * - point.lock.wait / point.lock.hold : 연산 종류별 락 대기 시간, 보유 시간 (히스토그램)
+ * - point.operations : 연산 종류(CHARGE, USE, BATCH)와 결과별 처리 건수
+ * - point.operations.in-flight : 락을 기다리거나 실행 중인 연산 수
+ *
+ * 금액 검증은 락을 잡기 전에 실패하므로 point.operations 에는 포함되지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PointLockMetrics implements UserLockListener {
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, OperationMeters> meters = new ConcurrentHashMap<>();
+
+    public PointLockMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onRequested(long userId, String operation) {
+        metersFor(operation).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void onAcquired(long userId, String operation, long waitNanos) {
+        metersFor(operation).lockWait.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onReleased(long userId, String operation, long holdNanos, Throwable failure) {
+        OperationMeters operationMeters = metersFor(operation);
+        operationMeters.lockHold.record(holdNanos, TimeUnit.NANOSECONDS);
+        operationMeters.outcomes[Outcome.of(failure).ordinal()].increment();
+        operationMeters.inFlight.decrementAndGet();
+    }
+
+    private OperationMeters metersFor(String operation) {
+        OperationMeters operationMeters = meters.get(operation);
+        if (operationMeters == null) {
+            operationMeters = meters.computeIfAbsent(operation, key -> new OperationMeters(registry, key));
+        }
+        return operationMeters;
+    }
+
+    private enum Outcome {
+        SUCCESS, INSUFFICIENT_POINTS, FAILURE;
+
+        private static Outcome of(Throwable failure) {
+            if (failure == null) {
+                return SUCCESS;
+            }
+            return failure instanceof InsufficientPointsException ? INSUFFICIENT_POINTS : FAILURE;
+        }
+
+        private String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final class OperationMeters {
+        private final Timer lockWait;
+        private final Timer lockHold;
+        private final Counter[] outcomes = new Counter[Outcome.values().length];
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private OperationMeters(MeterRegistry registry, String operation) {
+            this.lockWait = Timer.builder("point.lock.wait")
+                    .description("Time spent waiting for the user lock")
+                    .tag("operation", operation)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.lockHold = Timer.builder("point.lock.hold")
+                    .description("Time the user lock was held")
+                    .tag("operation", operation)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            for (Outcome outcome : Outcome.values()) {
+                outcomes[outcome.ordinal()] = Counter.builder("point.operations")
+                        .description("Point operations by type and outcome")
+                        .tag("type", operation)
+                        .tag("outcome", outcome.tag())
+                        .register(registry);
+            }
+            Gauge.builder("point.operations.in-flight", inFlight, AtomicInteger::get)
+                    .description("Point operations waiting for or holding the user lock")
+                    .tag("type", operation)
+                    .register(registry);
+        }
+    }
+}
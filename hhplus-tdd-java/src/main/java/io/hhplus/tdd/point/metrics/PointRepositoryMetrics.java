@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.repository.CachingUserPointRepository;
+import io.hhplus.tdd.point.repository.WriteBehindPointHistoryRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정으로 켜진 Repository 계층의 내부 상태를 지표로 노출합니다.
+ * - point.balance.cache.* : 잔액 캐시의 hit/miss/eviction 건수와 크기
+ * - point.history.write-behind.pending : 아직 저장되지 않고 큐에 쌓여있는 내역 수
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PointRepositoryMetrics implements MeterBinder {
+
+    private final ObjectProvider<CachingUserPointRepository> cachingUserPointRepository;
+    private final ObjectProvider<WriteBehindPointHistoryRepository> writeBehindPointHistoryRepository;
+
+    public PointRepositoryMetrics(
+            ObjectProvider<CachingUserPointRepository> cachingUserPointRepository,
+            ObjectProvider<WriteBehindPointHistoryRepository> writeBehindPointHistoryRepository
+    ) {
+        this.cachingUserPointRepository = cachingUserPointRepository;
+        this.writeBehindPointHistoryRepository = writeBehindPointHistoryRepository;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CachingUserPointRepository cache = cachingUserPointRepository.getIfAvailable();
+        if (cache != null) {
+            FunctionCounter.builder("point.balance.cache.hits", cache, CachingUserPointRepository::hitCount)
+                    .register(registry);
+            FunctionCounter.builder("point.balance.cache.misses", cache, CachingUserPointRepository::missCount)
+                    .register(registry);
+            FunctionCounter.builder("point.balance.cache.evictions", cache, CachingUserPointRepository::evictionCount)
+                    .register(registry);
+            Gauge.builder("point.balance.cache.size", cache, CachingUserPointRepository::size)
+                    .register(registry);
+        }
+
+        WriteBehindPointHistoryRepository writeBehind = writeBehindPointHistoryRepository.getIfAvailable();
+        if (writeBehind != null) {
+            Gauge.builder("point.history.write-behind.pending", writeBehind, WriteBehindPointHistoryRepository::pendingCount)
+                    .description("Point histories queued but not yet persisted")
+                    .register(registry);
+        }
+    }
+}
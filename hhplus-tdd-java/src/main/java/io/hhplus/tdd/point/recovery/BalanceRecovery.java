@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point.recovery;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재시작 시 잔액을 복구하고, 주기적으로 잔액 스냅샷을 남깁니다. (point.history.store=mapped 필요)
+ * - 시작할 때 마지막 스냅샷을 읽고, 스냅샷 이후의 내역만 다시 적용해 유저별 잔액을 계산합니다.
+ * - 스냅샷은 현재 잔액이 아니라 내역 파일을 이어서 합산해 만들므로, 항상 lastHistoryId 까지의 내역과 정확히 일치합니다.
+ * - 종료할 때 마지막으로 한 번 더 스냅샷을 남깁니다.
+ *
+ * write-behind 큐에 남아 있던 내역은 파일에 기록되지 않았으므로 복구되지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "point.recovery", name = "enabled", havingValue = "true")
+public class BalanceRecovery implements AutoCloseable {
+
+    private final MappedPointHistoryRepository historyLog;
+    private final BalanceSnapshotFile snapshotFile;
+    private final int parallelism;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Long, UserPoint> recoveredBalances;
+    private BalanceSnapshot latest;  // this 로 동기화
+    private boolean saved;           // latest 가 파일에 저장되었는지 (this 로 동기화)
+
+    @Autowired
+    public BalanceRecovery(ObjectProvider<MappedPointHistoryRepository> mappedPointHistoryRepository, PointProperties properties) {
+        this(requireMapped(mappedPointHistoryRepository),
+                new BalanceSnapshotFile(Path.of(properties.getRecovery().getSnapshotPath())),
+                properties.getRecovery().parallelism(),
+                properties.getRecovery().getSnapshotIntervalSeconds());
+    }
+
+    public BalanceRecovery(MappedPointHistoryRepository historyLog, BalanceSnapshotFile snapshotFile,
+                           int parallelism, long snapshotIntervalSeconds) {
+        this.historyLog = historyLog;
+        this.snapshotFile = snapshotFile;
+        this.parallelism = parallelism;
+
+        this.latest = recover(historyLog, snapshotFile, parallelism);
+        this.recoveredBalances = latest.balances();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-balance-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (snapshotIntervalSeconds > 0) {
+            scheduler.scheduleWithFixedDelay(this::snapshotQuietly, snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    // 마지막 스냅샷에 남은 내역을 적용한 잔액
+    public static BalanceSnapshot recover(MappedPointHistoryRepository historyLog, BalanceSnapshotFile snapshotFile, int parallelism) {
+        long start = System.nanoTime();
+        BalanceSnapshot base = snapshotFile.load()
+                .filter(snapshot -> snapshot.lastHistoryId() <= historyLog.lastId())  // 내역 파일이 바뀌었으면 처음부터 다시 읽습니다.
+                .orElse(BalanceSnapshot.empty());
+        long loaded = System.nanoTime();
+
+        BalanceSnapshot recovered = HistoryReplayer.replay(base, historyLog, parallelism);
+        long replayed = System.nanoTime();
+
+        log.info("Recovered {} balances: snapshot covered {} histories ({} ms), replayed {} histories ({} ms).",
+                recovered.balances().size(),
+                base.lastHistoryId(), TimeUnit.NANOSECONDS.toMillis(loaded - start),
+                recovered.lastHistoryId() - base.lastHistoryId(), TimeUnit.NANOSECONDS.toMillis(replayed - loaded));
+        return recovered;
+    }
+
+    // 시작할 때 복구한 잔액 (이후 변경은 반영되지 않습니다)
+    public Map<Long, UserPoint> recoveredBalances() {
+        return recoveredBalances;
+    }
+
+    // 마지막 스냅샷 이후의 내역을 합산해 새 스냅샷을 저장합니다.
+    public synchronized BalanceSnapshot snapshot() throws IOException {
+        BalanceSnapshot next = HistoryReplayer.replay(latest, historyLog, parallelism);
+        if (next != latest || !saved) {
+            snapshotFile.save(next);
+            latest = next;
+            saved = true;
+        }
+        return next;
+    }
+
+    @Override
+    @PreDestroy
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        snapshot();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        }
+        catch (IOException | RuntimeException e) {
+            log.error("Failed to write balance snapshot.", e);
+        }
+    }
+
+    private static MappedPointHistoryRepository requireMapped(ObjectProvider<MappedPointHistoryRepository> mappedPointHistoryRepository) {
+        MappedPointHistoryRepository mapped = mappedPointHistoryRepository.getIfAvailable();
+        if (mapped == null) {
+            throw new IllegalStateException("point.recovery.enabled requires point.history.store=mapped.");
+        }
+        return mapped;
+    }
+}
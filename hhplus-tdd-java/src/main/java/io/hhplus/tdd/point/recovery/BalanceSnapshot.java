@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.recovery;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+
+import java.util.Map;
+
+/**
+ * lastHistoryId 까지의 내역을 모두 반영한 유저별 잔액
+ */
+public record BalanceSnapshot(
+        long lastHistoryId,
+        Map<Long, UserPoint> balances
+) {
+
+    public static BalanceSnapshot empty() {
+        return new BalanceSnapshot(0L, Map.of());
+    }
+}
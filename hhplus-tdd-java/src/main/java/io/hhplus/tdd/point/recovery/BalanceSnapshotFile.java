@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.recovery;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 잔액 스냅샷을 파일 하나에 저장하고 읽습니다.
+ * - 형식 : magic(4) | lastHistoryId(8) | count(4) | [userId(8) | point(8) | updateMillis(8)] * count | crc32(8)
+ * - 임시 파일에 끝까지 쓴 뒤 이름을 바꾸므로, 쓰는 도중 종료되어도 이전 스냅샷이 남습니다.
+ * - 파일이 없거나 손상되었으면 빈 값을 돌려주고, 호출하는 쪽은 내역 전체를 다시 읽습니다.
+ */
+@Slf4j
+public class BalanceSnapshotFile {
+
+    private static final int MAGIC = 0x50545331;  // "PTS1"
+
+    private final Path path;
+
+    public BalanceSnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    public Optional<BalanceSnapshot> load() {
+        try (CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(path)), new CRC32());
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC) {
+                log.warn("Ignoring balance snapshot {}: unknown format.", path);
+                return Optional.empty();
+            }
+
+            long lastHistoryId = in.readLong();
+            int count = in.readInt();
+            Map<Long, UserPoint> balances = new HashMap<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                long userId = in.readLong();
+                balances.put(userId, new UserPoint(userId, in.readLong(), in.readLong()));
+            }
+
+            long expected = checked.getChecksum().getValue();
+            if (in.readLong() != expected) {
+                log.warn("Ignoring balance snapshot {}: checksum mismatch.", path);
+                return Optional.empty();
+            }
+            return Optional.of(new BalanceSnapshot(lastHistoryId, balances));
+        }
+        catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        catch (IOException e) {
+            log.warn("Ignoring balance snapshot {}: {}", path, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    public void save(BalanceSnapshot snapshot) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)), new CRC32());
+             DataOutputStream out = new DataOutputStream(checked)) {
+            out.writeInt(MAGIC);
+            out.writeLong(snapshot.lastHistoryId());
+            out.writeInt(snapshot.balances().size());
+            for (UserPoint userPoint : snapshot.balances().values()) {
+                out.writeLong(userPoint.id());
+                out.writeLong(userPoint.point());
+                out.writeLong(userPoint.updateMillis());
+            }
+            out.writeLong(checked.getChecksum().getValue());
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point.recovery;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.IntStream;
+
+/**
+ * 스냅샷 이후의 내역을 다시 적용해 최신 잔액을 계산합니다.
+ * - 남은 내역을 ID 구간으로 나눠 구간마다 유저별 증감을 병렬로 합산한 뒤, 스냅샷 잔액에 더합니다.
+ *   구간은 replay 마다 만드는 parallelism 개 이하의 전용 스레드에서 합산하므로, 공용 ForkJoinPool 을 쓰는 다른 작업과 스레드를 나눠 쓰지 않습니다.
+ *   충전은 더하고 사용은 빼기만 하므로 구간을 어떤 순서로 합쳐도 결과가 같습니다.
+ * - 기록된 내역은 이미 검증을 통과한 연산이므로 다시 검증하지 않습니다.
+ */
+public final class HistoryReplayer {
+
+    // 이보다 짧은 구간은 나누지 않습니다.
+    private static final long MIN_RANGE = 100_000L;
+
+    private HistoryReplayer() {
+    }
+
+    public static BalanceSnapshot replay(BalanceSnapshot base, MappedPointHistoryRepository historyLog, int parallelism) {
+        long from = base.lastHistoryId();
+        long to = historyLog.lastId();
+        if (to <= from) {
+            return base;
+        }
+
+        int parts = (int) Math.max(1, Math.min(parallelism, (to - from) / MIN_RANGE));
+        long step = (to - from + parts - 1) / parts;
+        List<Callable<Map<Long, Delta>>> tasks = IntStream.range(0, parts)
+                .<Callable<Map<Long, Delta>>>mapToObj(part -> () -> sum(historyLog, from + part * step, Math.min(to, from + (part + 1) * step)))
+                .toList();
+        List<Map<Long, Delta>> partials = run(tasks);
+
+        Map<Long, UserPoint> balances = new HashMap<>(base.balances());
+        for (Map<Long, Delta> partial : partials) {
+            partial.forEach((userId, delta) -> balances.merge(userId, new UserPoint(userId, delta.amount, delta.updateMillis),
+                    (current, added) -> new UserPoint(userId, current.point() + added.point(),
+                            Math.max(current.updateMillis(), added.updateMillis()))));
+        }
+        return new BalanceSnapshot(to, balances);
+    }
+
+    // 구간이 하나이면 호출한 스레드에서 바로 합산합니다.
+    private static List<Map<Long, Delta>> run(List<Callable<Map<Long, Delta>>> tasks) {
+        if (tasks.size() == 1) {
+            try {
+                return List.of(tasks.get(0).call());
+            }
+            catch (Exception e) {
+                throw e instanceof RuntimeException runtime ? runtime : new IllegalStateException(e);
+            }
+        }
+
+        ThreadFactory threadFactory = Thread.ofPlatform().name("point-replay-", 1).daemon(true).factory();
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size(), threadFactory);
+        try {
+            List<Map<Long, Delta>> partials = new ArrayList<>(tasks.size());
+            for (Future<Map<Long, Delta>> future : executor.invokeAll(tasks)) {
+                partials.add(future.get());
+            }
+            return partials;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while replaying point histories.", e);
+        }
+        catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime
+                    ? runtime
+                    : new IllegalStateException("Failed to replay point histories.", e.getCause());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<Long, Delta> sum(MappedPointHistoryRepository historyLog, long afterId, long toId) {
+        Map<Long, Delta> deltas = new HashMap<>();
+        historyLog.scan(afterId, toId, (userId, amount, type, updateMillis) -> {
+            Delta delta = deltas.computeIfAbsent(userId, key -> new Delta());
+            delta.amount += type == TransactionType.CHARGE ? amount : -amount;
+            delta.updateMillis = Math.max(delta.updateMillis, updateMillis);
+        });
+        return deltas;
+    }
+
+    private static final class Delta {
+        private long amount;
+        private long updateMillis;
+    }
+}
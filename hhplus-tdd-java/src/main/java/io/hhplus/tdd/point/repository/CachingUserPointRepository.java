@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * delegate 앞에 크기가 제한된 LRU 캐시를 둡니다.
+ * - selectById 는 캐시에 없을 때만 delegate 를 읽고(read-through), insertOrUpdate 는 저장 결과를 캐시에 반영합니다(write-through).
+ * - 락 경합을 줄이기 위해 유저 ID 로 나눈 여러 segment 가 각자의 LRU 와 락을 가집니다.
+ *
+ * 포인트 변경은 서비스에서 유저 락을 잡고 실행되지만 조회는 락 없이 실행되므로,
+ * 조회가 delegate 를 읽는 사이에 같은 유저의 쓰기가 끝났다면 읽어온 값은 캐시에 넣지 않습니다.
+ */
+public class CachingUserPointRepository implements UserPointRepository {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final UserPointRepository delegate;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingUserPointRepository(UserPointRepository delegate, int maximumSize) {
+        if (maximumSize < SEGMENT_COUNT) {
+            throw new IllegalArgumentException("Cache size must be at least " + SEGMENT_COUNT + ".");
+        }
+        this.delegate = delegate;
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(maximumSize / SEGMENT_COUNT);
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = delegate.insertOrUpdate(id, amount);
+        segmentFor(id).write(id, userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return selectById(id.longValue());
+    }
+
+    // 캐시는 Long 키 맵이므로 조회할 때 키를 박싱하지만, 캐시에 없으면 delegate 에는 long 으로 넘깁니다.
+    @Override
+    public UserPoint selectById(long id) {
+        Segment segment = segmentFor(id);
+
+        UserPoint cached = segment.get(id);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        long writeCount = segment.writeCount();
+        UserPoint loaded = delegate.selectById(id);
+        segment.putIfNotWritten(id, loaded, writeCount);
+        return loaded;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(long id) {
+        return segments[(Long.hashCode(id) & 0x7fffffff) % SEGMENT_COUNT];
+    }
+
+    private final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Long, UserPoint> entries;
+        private long writes;  // lock 안에서만 변경
+
+        private Segment(int maximumSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                    if (size() > maximumSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private UserPoint get(long id) {
+            lock.lock();
+            try {
+                return entries.get(id);  // access order 를 갱신하므로 락이 필요합니다.
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        private long writeCount() {
+            lock.lock();
+            try {
+                return writes;
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        private void write(long id, UserPoint userPoint) {
+            lock.lock();
+            try {
+                writes++;
+                entries.put(id, userPoint);
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        // 읽는 동안 이 segment 에 쓰기가 있었다면 읽어온 값이 오래된 값일 수 있으므로 넣지 않습니다.
+        private void putIfNotWritten(long id, UserPoint userPoint, long expectedWrites) {
+            lock.lock();
+            try {
+                if (writes == expectedWrites) {
+                    entries.putIfAbsent(id, userPoint);
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 저장은 delegate 에 맡기고, 저장된 내역을 userId → {@link PointHistorySegment} 인덱스에 함께 기록합니다.
+ * 유저별 조회는 전체 내역을 훑지 않고 해당 유저의 segment 만 읽으므로 O(해당 유저의 내역 수) 입니다.
+ *
+ * 전체 내역은 유저별 segment 를 차례로 읽어 넘겨줍니다. (유저 안에서만 ID 순서입니다.)
+ * lastId 는 1 부터 빠짐없이 segment 에 기록된 마지막 ID 입니다. 여러 스레드가 동시에 insert 해 ID 가 순서를 바꿔 기록되어도,
+ * 앞선 ID 가 모두 기록되기 전에는 올라가지 않으므로 lastId 이하의 내역은 항상 모두 읽을 수 있습니다.
+ */
+public class IndexedPointHistoryRepository implements PointHistoryRepository, PointHistoryScanner {
+
+    private final PointHistoryRepository delegate;
+    private final ConcurrentHashMap<Long, PointHistorySegment> segments = new ConcurrentHashMap<>();
+    private final ReentrantLock lastIdLock = new ReentrantLock();
+    private final TreeSet<Long> recordedAhead = new TreeSet<>();  // lastId + 1 보다 먼저 기록된 ID (lastIdLock 안에서만 사용)
+    private volatile long lastId;
+
+    public IndexedPointHistoryRepository(PointHistoryRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = delegate.insert(userId, amount, type, updateMillis);
+        segments.computeIfAbsent(userId, id -> new PointHistorySegment()).append(pointHistory);
+        advanceLastId(pointHistory.id());
+        return pointHistory;
+    }
+
+    private void advanceLastId(long id) {
+        lastIdLock.lock();
+        try {
+            if (id != lastId + 1) {
+                recordedAhead.add(id);
+                return;
+            }
+            long contiguous = id;
+            while (!recordedAhead.isEmpty() && recordedAhead.first() == contiguous + 1) {
+                contiguous = recordedAhead.pollFirst();
+            }
+            lastId = contiguous;
+        }
+        finally {
+            lastIdLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        PointHistorySegment segment = segments.get(userId);
+        return segment == null ? List.of() : segment.toList(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdAfter(long userId, long cursor, TransactionType type, int limit) {
+        PointHistorySegment segment = segments.get(userId);
+        return segment == null ? List.of() : segment.page(userId, cursor, type, limit);
+    }
+
+    @Override
+    public long lastId() {
+        return lastId;
+    }
+
+    @Override
+    public void forEach(long afterId, long toId, Consumer<PointHistory> action) {
+        segments.forEach((userId, segment) -> segment.forEach(userId, afterId, toId, action));
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        PointHistorySegment segment = segments.get(userId);
+        return segment == null ? List.of() : segment.between(userId, fromMillis, toMillis);
+    }
+}
@@ -0,0 +1,325 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 내역을 고정 길이 슬롯의 append-only 파일에 기록하고, 파일을 메모리에 매핑해 읽습니다.
+ * - 슬롯(40 byte) : id, userId, amount, updateMillis (각 8 byte), type (1 byte), padding
+ * - 내역을 객체로 들고 있지 않으므로 힙에는 유저별 ID 인덱스만 남습니다. 조회 시 매핑된 버퍼에서 필요한 슬롯만 읽습니다.
+ * - 파일은 chunk 단위로 늘리면서 매핑합니다.
+ * - 다시 열면 파일을 처음부터 읽어 마지막 ID 와 유저별 인덱스를 복구합니다. (ID 가 0 인 슬롯이 끝입니다.)
+ *
+ * ID 는 1부터 순서대로 부여되며 슬롯 번호 + 1 과 같습니다.
+ * 쓰기는 한 번에 하나씩 실행되고, 읽기는 락 없이 실행됩니다.
+ *
+ * openReadOnly 로 열면 파일을 만들거나 늘리지 않고 읽기 전용으로 매핑합니다. (앱이 쓰고 있는 파일을 다른 프로세스에서 읽을 때)
+ * 연 시점에 기록이 끝난 내역까지만 보이고, insert 는 실패합니다.
+ */
+public class MappedPointHistoryRepository implements PointHistoryRepository, PointHistoryScanner, AutoCloseable {
+
+    static final int SLOT_SIZE = 40;
+    private static final int DEFAULT_SLOTS_PER_CHUNK = 1 << 20;  // 40MB
+
+    private static final int ID = 0;
+    private static final int USER_ID = 8;
+    private static final int AMOUNT = 16;
+    private static final int UPDATE_MILLIS = 24;
+    private static final int TYPE = 32;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final FileChannel channel;
+    private final int slotsPerChunk;
+    private final boolean readOnly;
+    private final ConcurrentHashMap<Long, UserSlotIndex> index = new ConcurrentHashMap<>();
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private volatile MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+    private volatile long lastId;
+    private boolean closed;  // appendLock 안에서만 변경
+
+    public MappedPointHistoryRepository(Path path) throws IOException {
+        this(path, DEFAULT_SLOTS_PER_CHUNK);
+    }
+
+    public MappedPointHistoryRepository(Path path, int slotsPerChunk) throws IOException {
+        this(createParent(path), slotsPerChunk, false);
+    }
+
+    private MappedPointHistoryRepository(Path path, int slotsPerChunk, boolean readOnly) throws IOException {
+        this.channel = readOnly
+                ? FileChannel.open(path, StandardOpenOption.READ)
+                : FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.slotsPerChunk = slotsPerChunk;
+        this.readOnly = readOnly;
+
+        try {
+            if (readOnly) {
+                mapExisting();
+            }
+            else {
+                long chunkBytes = (long) slotsPerChunk * SLOT_SIZE;
+                int chunkCount = (int) Math.max(1, (channel.size() + chunkBytes - 1) / chunkBytes);
+                for (int i = 0; i < chunkCount; i++) {
+                    addChunk();
+                }
+            }
+            recover();
+        }
+        catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // 파일이 없으면 NoSuchFileException 을 던집니다.
+    public static MappedPointHistoryRepository openReadOnly(Path path) throws IOException {
+        return openReadOnly(path, DEFAULT_SLOTS_PER_CHUNK);
+    }
+
+    public static MappedPointHistoryRepository openReadOnly(Path path, int slotsPerChunk) throws IOException {
+        return new MappedPointHistoryRepository(path, slotsPerChunk, true);
+    }
+
+    private static Path createParent(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        return path;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        appendLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Point history log is already closed.");
+            }
+            if (readOnly) {
+                throw new IllegalStateException("Point history log is opened read-only.");
+            }
+
+            long id = lastId + 1;
+            long slot = id - 1;
+            if (slot / slotsPerChunk == chunks.length) {
+                addChunk();
+            }
+
+            MappedByteBuffer chunk = chunks[(int) (slot / slotsPerChunk)];
+            int offset = (int) (slot % slotsPerChunk) * SLOT_SIZE;
+            chunk.putLong(offset + USER_ID, userId);
+            chunk.putLong(offset + AMOUNT, amount);
+            chunk.putLong(offset + UPDATE_MILLIS, updateMillis);
+            chunk.put(offset + TYPE, (byte) type.ordinal());
+            chunk.putLong(offset + ID, id);  // ID 를 마지막에 써야 복구 시 반쯤 쓰인 슬롯을 읽지 않습니다.
+
+            lastId = id;
+            index.computeIfAbsent(userId, key -> new UserSlotIndex()).add(id, updateMillis);
+            return new PointHistory(id, userId, amount, type, updateMillis);
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Failed to extend point history log.", e);
+        }
+        finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return selectByUserIdAfter(userId, 0L, null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdAfter(long userId, long cursor, TransactionType type, int limit) {
+        UserSlotIndex userIndex = index.get(userId);
+        if (userIndex == null) {
+            return List.of();
+        }
+
+        UserSlotIndex.Snapshot snapshot = userIndex.snapshot();
+        int from = snapshot.indexAfter(cursor);
+        List<PointHistory> result = new ArrayList<>(Math.min(limit, snapshot.size() - from));
+        for (int i = from; i < snapshot.size() && result.size() < limit; i++) {
+            PointHistory pointHistory = read(snapshot.ids()[i]);
+            if (type == null || pointHistory.type() == type) {
+                result.add(pointHistory);
+            }
+        }
+        return result;
+    }
+
+    // 유저의 내역 ID 가 시간 순서이면 슬롯의 updateMillis 를 이진 탐색해 시작 위치를 찾습니다. O(log n + k)
+    @Override
+    public List<PointHistory> selectByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        UserSlotIndex userIndex = index.get(userId);
+        if (userIndex == null) {
+            return List.of();
+        }
+
+        UserSlotIndex.Snapshot snapshot = userIndex.snapshot();
+        if (!snapshot.timeOrdered()) {
+            return PointHistoryRepository.super.selectByUserIdBetween(userId, fromMillis, toMillis);
+        }
+
+        int low = 0;
+        int high = snapshot.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (readUpdateMillis(snapshot.ids()[mid]) < fromMillis) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+
+        List<PointHistory> result = new ArrayList<>();
+        for (int i = low; i < snapshot.size(); i++) {
+            PointHistory pointHistory = read(snapshot.ids()[i]);
+            if (pointHistory.updateMillis() >= toMillis) {
+                break;
+            }
+            result.add(pointHistory);
+        }
+        return result;
+    }
+
+    // afterId 다음부터 toId 까지의 내역을 ID 순서대로 객체를 만들지 않고 읽습니다. toId 는 lastId() 이하여야 합니다.
+    public void scan(long afterId, long toId, Visitor visitor) {
+        if (toId > lastId) {
+            throw new IllegalArgumentException("Cannot scan beyond the last id " + lastId + ".");
+        }
+        MappedByteBuffer[] current = chunks;
+        for (long id = afterId + 1; id <= toId; id++) {
+            long slot = id - 1;
+            MappedByteBuffer chunk = current[(int) (slot / slotsPerChunk)];
+            int offset = (int) (slot % slotsPerChunk) * SLOT_SIZE;
+            visitor.visit(
+                    chunk.getLong(offset + USER_ID),
+                    chunk.getLong(offset + AMOUNT),
+                    TYPES[chunk.get(offset + TYPE)],
+                    chunk.getLong(offset + UPDATE_MILLIS)
+            );
+        }
+    }
+
+    // ID 순서대로 넘겨줍니다.
+    @Override
+    public void forEach(long afterId, long toId, Consumer<PointHistory> action) {
+        if (toId > lastId) {
+            throw new IllegalArgumentException("Cannot scan beyond the last id " + lastId + ".");
+        }
+        for (long id = afterId + 1; id <= toId; id++) {
+            action.accept(read(id));
+        }
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(long userId, long amount, TransactionType type, long updateMillis);
+    }
+
+    // 지금까지 기록된 마지막 ID (비어 있으면 0)
+    @Override
+    public long lastId() {
+        return lastId;
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            if (!readOnly) {
+                for (MappedByteBuffer chunk : chunks) {
+                    chunk.force();
+                }
+            }
+            channel.close();
+        }
+        finally {
+            appendLock.unlock();
+        }
+    }
+
+    private PointHistory read(long id) {
+        long slot = id - 1;
+        MappedByteBuffer chunk = chunks[(int) (slot / slotsPerChunk)];
+        int offset = (int) (slot % slotsPerChunk) * SLOT_SIZE;
+        return new PointHistory(
+                id,
+                chunk.getLong(offset + USER_ID),
+                chunk.getLong(offset + AMOUNT),
+                TYPES[chunk.get(offset + TYPE)],
+                chunk.getLong(offset + UPDATE_MILLIS)
+        );
+    }
+
+    private long readUpdateMillis(long id) {
+        long slot = id - 1;
+        return chunks[(int) (slot / slotsPerChunk)].getLong((int) (slot % slotsPerChunk) * SLOT_SIZE + UPDATE_MILLIS);
+    }
+
+    // 파일 끝에 chunk 하나를 이어 붙여 매핑합니다. (READ_WRITE 매핑은 파일 크기를 함께 늘립니다.)
+    private void addChunk() throws IOException {
+        long chunkBytes = (long) slotsPerChunk * SLOT_SIZE;
+        MappedByteBuffer[] current = chunks;
+        MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_WRITE, current.length * chunkBytes, chunkBytes);
+
+        MappedByteBuffer[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = chunk;
+        chunks = grown;
+    }
+
+    // 파일 크기만큼만 읽기 전용으로 매핑합니다. 마지막 chunk 는 chunk 크기보다 작을 수 있습니다.
+    private void mapExisting() throws IOException {
+        long chunkBytes = (long) slotsPerChunk * SLOT_SIZE;
+        long size = channel.size();
+        List<MappedByteBuffer> mapped = new ArrayList<>();
+        for (long position = 0; position < size; position += chunkBytes) {
+            mapped.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkBytes, size - position)));
+        }
+        chunks = mapped.toArray(MappedByteBuffer[]::new);
+    }
+
+    private void recover() {
+        long capacity = 0;
+        for (MappedByteBuffer chunk : chunks) {
+            capacity += chunk.capacity() / SLOT_SIZE;
+        }
+        long slot = 0;
+        while (slot < capacity) {
+            MappedByteBuffer chunk = chunks[(int) (slot / slotsPerChunk)];
+            int offset = (int) (slot % slotsPerChunk) * SLOT_SIZE;
+            long id = chunk.getLong(offset + ID);
+            if (id == 0) {
+                break;
+            }
+            if (id != slot + 1) {
+                throw new IllegalStateException("Corrupted point history log at slot " + slot + ": id " + id);
+            }
+
+            index.computeIfAbsent(chunk.getLong(offset + USER_ID), key -> new UserSlotIndex()).add(id, chunk.getLong(offset + UPDATE_MILLIS));
+            slot++;
+        }
+        lastId = slot;
+    }
+}
@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+
+/**
+ * delegate 의 메서드별 실행 시간을 point.repository 타이머로 기록합니다.
+ * write-behind 위에 두면 insert 는 큐에 넣는 시간(대기 포함)을, 테이블 바로 위에 두면 실제 저장 시간을 잽니다.
+ */
+public class MeteredPointHistoryRepository implements PointHistoryRepository {
+
+    private final PointHistoryRepository delegate;
+    private final Timer insertTimer;
+    private final Timer selectAllByUserIdTimer;
+    private final Timer selectByUserIdAfterTimer;
+    private final Timer selectByUserIdBetweenTimer;
+    private final Timer summarizeTimer;
+
+    public MeteredPointHistoryRepository(PointHistoryRepository delegate, MeterRegistry registry, String layer) {
+        this.delegate = delegate;
+        this.insertTimer = RepositoryTimers.timer(registry, "point_history", "insert", layer);
+        this.selectAllByUserIdTimer = RepositoryTimers.timer(registry, "point_history", "selectAllByUserId", layer);
+        this.selectByUserIdAfterTimer = RepositoryTimers.timer(registry, "point_history", "selectByUserIdAfter", layer);
+        this.selectByUserIdBetweenTimer = RepositoryTimers.timer(registry, "point_history", "selectByUserIdBetween", layer);
+        this.summarizeTimer = RepositoryTimers.timer(registry, "point_history", "summarize", layer);
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return insertTimer.record(() -> delegate.insert(userId, amount, type, updateMillis));
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return selectAllByUserIdTimer.record(() -> delegate.selectAllByUserId(userId));
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdAfter(long userId, long cursor, TransactionType type, int limit) {
+        return selectByUserIdAfterTimer.record(() -> delegate.selectByUserIdAfter(userId, cursor, type, limit));
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        return selectByUserIdBetweenTimer.record(() -> delegate.selectByUserIdBetween(userId, fromMillis, toMillis));
+    }
+
+    @Override
+    public PointSummary summarize(long userId) {
+        return summarizeTimer.record(() -> delegate.summarize(userId));
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * delegate 의 메서드별 실행 시간을 point.repository 타이머로 기록합니다.
+ * layer 태그로 어느 계층을 감쌌는지 구분합니다. (table: 테이블 구현체, repository: 서비스가 호출하는 최상위 계층)
+ */
+public class MeteredUserPointRepository implements UserPointRepository {
+
+    private final UserPointRepository delegate;
+    private final Timer insertOrUpdateTimer;
+    private final Timer selectByIdTimer;
+
+    public MeteredUserPointRepository(UserPointRepository delegate, MeterRegistry registry, String layer) {
+        this.delegate = delegate;
+        this.insertOrUpdateTimer = RepositoryTimers.timer(registry, "user_point", "insertOrUpdate", layer);
+        this.selectByIdTimer = RepositoryTimers.timer(registry, "user_point", "selectById", layer);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return insertOrUpdateTimer.record(() -> delegate.insertOrUpdate(id, amount));
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return selectByIdTimer.record(() -> delegate.selectById(id));
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return selectByIdTimer.record(() -> delegate.selectById(id));
+    }
+}
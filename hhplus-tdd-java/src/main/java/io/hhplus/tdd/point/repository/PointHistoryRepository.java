@@ -2,10 +2,34 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointSummary;
 
+import java.util.Comparator;
 import java.util.List;
 
 public interface PointHistoryRepository {
     PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
     List<PointHistory> selectAllByUserId(long userId);
+
+    // cursor 보다 큰 ID 의 내역을 ID 순서대로 최대 limit 개 조회합니다. type 이 null 이면 종류에 상관없이 조회합니다.
+    default List<PointHistory> selectByUserIdAfter(long userId, long cursor, TransactionType type, int limit) {
+        return selectAllByUserId(userId).stream()
+                .filter(pointHistory -> pointHistory.id() > cursor)
+                .filter(pointHistory -> type == null || pointHistory.type() == type)
+                .limit(limit)
+                .toList();
+    }
+
+    // updateMillis 가 fromMillis 이상, toMillis 미만인 내역을 updateMillis 순서(같으면 ID 순서)로 조회합니다.
+    default List<PointHistory> selectByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        return selectAllByUserId(userId).stream()
+                .filter(pointHistory -> pointHistory.updateMillis() >= fromMillis && pointHistory.updateMillis() < toMillis)
+                .sorted(Comparator.comparingLong(PointHistory::updateMillis))
+                .toList();
+    }
+
+    // 유저의 충전/사용 합계와 건수입니다. 기본 구현은 내역 전체를 읽어 계산합니다.
+    default PointSummary summarize(long userId) {
+        return PointSummary.of(userId, selectAllByUserId(userId));
+    }
 }
@@ -5,19 +5,73 @@ import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.dto.PointHistory;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * PointHistoryTable 은 ArrayList 와 cursor++ 로 ID 를 매기므로 동시에 쓰면 안전하지 않습니다.
+ * 유저 ID 로 나눈 STRIPES 개의 테이블에 나눠 저장하고, 테이블마다 따로 잠급니다. (write-behind 를 끄면 여러 유저의 insert 가 동시에 들어옵니다)
+ *
+ * 테이블마다 ID 를 1 부터 따로 매기므로, 저장소 전체의 ID 는 여기서 매기고 테이블 ID 순서대로 globalIds 에 적어 둡니다.
+ * 조회할 때는 테이블 ID 를 globalIds 로 바꿔 돌려줍니다.
+ */
 @Repository
-public class PointHistoryRepositoryImpl implements PointHistoryRepository{
-    PointHistoryTable pointHistoryTable = new PointHistoryTable();
+public class PointHistoryRepositoryImpl implements PointHistoryRepository {
+
+    static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicLong lastId = new AtomicLong();
+
+    public PointHistoryRepositoryImpl() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(new PointHistoryTable(), new ArrayList<>(), new ReentrantReadWriteLock());
+        }
+    }
 
     @Override
     public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
-        return pointHistoryTable.insert(userId, amount, type, updateMillis);
+        Stripe stripe = stripe(userId);
+        stripe.lock().writeLock().lock();
+        try {
+            long id = lastId.incrementAndGet();
+            PointHistory saved = stripe.table().insert(userId, amount, type, updateMillis);
+            stripe.globalIds().add(id);
+            return withId(saved, id);
+        }
+        finally {
+            stripe.lock().writeLock().unlock();
+        }
     }
 
     @Override
     public List<PointHistory> selectAllByUserId(long id) {
-        return pointHistoryTable.selectAllByUserId(id);
+        Stripe stripe = stripe(id);
+        stripe.lock().readLock().lock();
+        try {
+            List<PointHistory> saved = stripe.table().selectAllByUserId(id);
+            List<PointHistory> result = new ArrayList<>(saved.size());
+            for (PointHistory pointHistory : saved) {
+                result.add(withId(pointHistory, stripe.globalIds().get((int) (pointHistory.id() - 1))));
+            }
+            return result;
+        }
+        finally {
+            stripe.lock().readLock().unlock();
+        }
+    }
+
+    private Stripe stripe(long userId) {
+        return stripes[Math.floorMod(Long.hashCode(userId), STRIPES)];
+    }
+
+    private static PointHistory withId(PointHistory pointHistory, long id) {
+        return new PointHistory(id, pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+    }
+
+    private record Stripe(PointHistoryTable table, List<Long> globalIds, ReadWriteLock lock) {
     }
 }
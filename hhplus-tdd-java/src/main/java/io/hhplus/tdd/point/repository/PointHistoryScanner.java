@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistory;
+
+import java.util.function.Consumer;
+
+/**
+ * 유저와 상관없이 저장된 내역 전체를 읽을 수 있는 저장소입니다. (원장 내보내기용)
+ */
+public interface PointHistoryScanner {
+
+    // 저장이 끝난 마지막 ID. 이 ID 이하의 내역은 모두 forEach 로 읽을 수 있습니다.
+    long lastId();
+
+    // ID 가 afterId 초과, toId 이하인 내역을 하나씩 넘겨줍니다. 넘겨주는 순서는 구현마다 다릅니다.
+    void forEach(long afterId, long toId, Consumer<PointHistory> action);
+}
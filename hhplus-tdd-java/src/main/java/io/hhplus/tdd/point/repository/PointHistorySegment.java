@@ -0,0 +1,174 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 한 유저의 포인트 내역을 컬럼별 primitive 배열에 이어 붙여 저장합니다.
+ * - 쓰기(append)는 한 번에 하나씩만 실행되고, 읽기는 락 없이 실행됩니다.
+ *   (virtual thread 가 carrier thread 에 고정되지 않도록 synchronized 대신 ReentrantLock 을 사용합니다.)
+ * - 배열을 다 채우면 두 배 크기로 복사한 뒤 교체하므로, 읽는 쪽은 size 만큼만 보면 됩니다.
+ * - 내역은 유저 락 안에서 시간 순서대로 저장되므로 updateMillis 컬럼이 곧 시간 정렬 인덱스입니다.
+ *   (시계가 되돌아가 순서가 깨지면 그 뒤로는 기간 조회가 전체를 훑습니다.)
+ */
+class PointHistorySegment {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+    private volatile int size;
+    private volatile boolean timeOrdered = true;  // size 보다 먼저 기록하므로 size 를 읽은 뒤 읽어야 합니다.
+
+    void append(PointHistory pointHistory) {
+        appendLock.lock();
+        try {
+            appendColumns(pointHistory);
+        }
+        finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void appendColumns(PointHistory pointHistory) {
+        Columns current = columns;
+        int index = size;
+        if (index == current.ids.length) {
+            current = current.grow();
+        }
+
+        current.ids[index] = pointHistory.id();
+        current.amounts[index] = pointHistory.amount();
+        current.updateMillis[index] = pointHistory.updateMillis();
+        current.types[index] = (byte) pointHistory.type().ordinal();
+        if (index > 0 && pointHistory.updateMillis() < current.updateMillis[index - 1]) {
+            timeOrdered = false;
+        }
+
+        columns = current;  // size 보다 먼저 공개해야 읽는 쪽이 새 배열을 봅니다.
+        size = index + 1;
+    }
+
+    List<PointHistory> toList(long userId) {
+        int count = size;
+        Columns current = columns;
+
+        List<PointHistory> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(current.get(userId, i));
+        }
+        return result;
+    }
+
+    // ID 는 저장 순서대로 증가하므로 cursor 다음 위치를 이진 탐색으로 찾습니다.
+    List<PointHistory> page(long userId, long cursor, TransactionType type, int limit) {
+        int count = size;
+        Columns current = columns;
+
+        int from = Arrays.binarySearch(current.ids, 0, count, cursor);
+        from = from >= 0 ? from + 1 : -(from + 1);
+
+        List<PointHistory> result = new ArrayList<>(Math.min(limit, count - from));
+        for (int i = from; i < count && result.size() < limit; i++) {
+            if (type == null || current.types[i] == type.ordinal()) {
+                result.add(current.get(userId, i));
+            }
+        }
+        return result;
+    }
+
+    // ID 가 afterId 초과, toId 이하인 내역을 목록을 만들지 않고 순서대로 넘겨줍니다.
+    void forEach(long userId, long afterId, long toId, Consumer<PointHistory> action) {
+        int count = size;
+        Columns current = columns;
+
+        int from = Arrays.binarySearch(current.ids, 0, count, afterId);
+        from = from >= 0 ? from + 1 : -(from + 1);
+        for (int i = from; i < count && current.ids[i] <= toId; i++) {
+            action.accept(current.get(userId, i));
+        }
+    }
+
+    // updateMillis 가 fromMillis 이상인 첫 위치를 이진 탐색으로 찾은 뒤 toMillis 전까지만 읽습니다. O(log n + k)
+    List<PointHistory> between(long userId, long fromMillis, long toMillis) {
+        int count = size;
+        boolean ordered = timeOrdered;
+        Columns current = columns;
+
+        List<PointHistory> result = new ArrayList<>();
+        if (!ordered) {
+            for (int i = 0; i < count; i++) {
+                if (current.updateMillis[i] >= fromMillis && current.updateMillis[i] < toMillis) {
+                    result.add(current.get(userId, i));
+                }
+            }
+            result.sort(Comparator.comparingLong(PointHistory::updateMillis));
+            return result;
+        }
+
+        for (int i = lowerBound(current.updateMillis, count, fromMillis); i < count && current.updateMillis[i] < toMillis; i++) {
+            result.add(current.get(userId, i));
+        }
+        return result;
+    }
+
+    // sorted[0..count) 에서 key 이상인 첫 위치 (없으면 count)
+    static int lowerBound(long[] sorted, int count, long key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static final class Columns {
+        private final long[] ids;
+        private final long[] amounts;
+        private final long[] updateMillis;
+        private final byte[] types;
+
+        private Columns(int capacity) {
+            this(new long[capacity], new long[capacity], new long[capacity], new byte[capacity]);
+        }
+
+        private Columns(long[] ids, long[] amounts, long[] updateMillis, byte[] types) {
+            this.ids = ids;
+            this.amounts = amounts;
+            this.updateMillis = updateMillis;
+            this.types = types;
+        }
+
+        private Columns grow() {
+            int capacity = ids.length * 2;
+            return new Columns(
+                    Arrays.copyOf(ids, capacity),
+                    Arrays.copyOf(amounts, capacity),
+                    Arrays.copyOf(updateMillis, capacity),
+                    Arrays.copyOf(types, capacity)
+            );
+        }
+
+        private PointHistory get(long userId, int index) {
+            return new PointHistory(ids[index], userId, amounts[index], TYPES[types[index]], updateMillis[index]);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 유저 ID(long) 를 박싱하지 않고 잔액을 저장하는 open addressing 해시 테이블입니다.
+ * - 유저마다 Long, UserPoint, HashMap.Node 객체를 만드는 대신 key / point / updateMillis 세 long 배열의 같은 칸에 저장합니다.
+ * - 락 경합을 줄이기 위해 유저 ID 로 나눈 여러 segment 가 각자의 테이블과 StampedLock 을 가집니다.
+ * - 쓰기는 segment 의 쓰기 락 안에서 실행되고, 읽기는 락 없이 읽은 뒤 그 사이 쓰기가 없었는지 확인합니다. (optimistic read)
+ * - 테이블이 차면 두 배 크기의 새 테이블을 만들고, 이후 쓰기마다 이전 테이블의 칸을 조금씩 옮깁니다.
+ *   옮기는 동안 조회는 새 테이블을 먼저 보고, 없으면 이전 테이블을 봅니다.
+ *
+ * UserPointTable 과 달리 메모리에만 저장하며 인위적인 지연(throttle)이 없습니다.
+ * Long.MIN_VALUE 는 빈 칸 표시로 쓰므로 유저 ID 로 사용할 수 없습니다.
+ */
+public class PrimitiveUserPointRepository implements UserPointRepository {
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MIGRATE_PER_WRITE = 64;  // 쓰기 한 번에 옮기는 이전 테이블의 칸 수
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    public PrimitiveUserPointRepository() {
+        this(1 << 10);
+    }
+
+    public PrimitiveUserPointRepository(int initialCapacity) {
+        int segmentCapacity = Integer.highestOneBit(Math.max(16, initialCapacity / SEGMENT_COUNT) * 2 - 1);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        long updateMillis = System.currentTimeMillis();
+        segmentFor(id).put(id, amount, updateMillis);
+        return new UserPoint(id, amount, updateMillis);
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return selectById(id.longValue());
+    }
+
+    // 박싱 없이 조회합니다.
+    @Override
+    public UserPoint selectById(long id) {
+        return segmentFor(id).get(id);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(long id) {
+        if (id == EMPTY) {
+            throw new IllegalArgumentException("User id " + id + " is reserved.");
+        }
+        return segments[(int) (mix(id) >>> 60)];  // 상위 4 bit 로 segment 를, 하위 bit 로 칸을 고릅니다.
+    }
+
+    // 연속된 유저 ID 가 한쪽에 몰리지 않도록 섞습니다. (SplitMix64 finalizer)
+    private static long mix(long id) {
+        long h = id;
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    // 한 세대의 테이블, 세 배열의 길이는 항상 같습니다.
+    private static final class Table {
+        private final long[] keys;
+        private final long[] points;
+        private final long[] updateMillis;
+        private final int mask;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.points = new long[capacity];
+            this.updateMillis = new long[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        // key 가 있는 칸, 없으면 key 가 들어갈 빈 칸의 위치
+        private int indexOf(long key) {
+            int index = (int) mix(key) & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                long current = keys[index];
+                if (current == key || current == EMPTY) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;  // 가득 찬 테이블 (락 없이 읽는 중 일관되지 않은 값을 본 경우에만 발생)
+        }
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        private volatile Table table;
+        private volatile Table previous;  // 옮기는 중인 이전 테이블, 다 옮기면 null
+        private int migrated;             // previous 에서 옮긴 칸 수 (쓰기 락 안에서만 사용)
+        private int size;                 // 쓰기 락 안에서만 변경
+
+        private Segment(int capacity) {
+            this.table = new Table(capacity);
+        }
+
+        private UserPoint get(long key) {
+            long stamp = lock.tryOptimisticRead();
+            UserPoint userPoint = read(key);
+            if (lock.validate(stamp)) {
+                return userPoint;
+            }
+
+            stamp = lock.readLock();
+            try {
+                return read(key);
+            }
+            finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private UserPoint read(long key) {
+            UserPoint userPoint = read(table, key);
+            if (userPoint == null) {
+                Table old = previous;
+                userPoint = old == null ? null : read(old, key);
+            }
+            return userPoint != null ? userPoint : UserPoint.empty(key);
+        }
+
+        private static UserPoint read(Table table, long key) {
+            int index = table.indexOf(key);
+            if (index < 0 || table.keys[index] != key) {
+                return null;
+            }
+            return new UserPoint(key, table.points[index], table.updateMillis[index]);
+        }
+
+        private void put(long key, long point, long updateMillis) {
+            long stamp = lock.writeLock();
+            try {
+                migrateSome();
+
+                Table current = table;
+                int index = current.indexOf(key);
+                if (current.keys[index] == EMPTY) {
+                    if (!contains(previous, key)) {
+                        size++;
+                    }
+                    current.keys[index] = key;
+                }
+                current.points[index] = point;
+                current.updateMillis[index] = updateMillis;
+
+                if (previous == null && size > (current.mask + 1) / 4 * 3) {
+                    previous = current;
+                    migrated = 0;
+                    table = new Table((current.mask + 1) * 2);
+                }
+            }
+            finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        // 이전 테이블의 칸을 새 테이블로 옮깁니다. 새 테이블에 이미 있는 유저는 더 최신 값이므로 건너뜁니다.
+        private void migrateSome() {
+            Table old = previous;
+            if (old == null) {
+                return;
+            }
+
+            Table current = table;
+            int end = Math.min(old.keys.length, migrated + MIGRATE_PER_WRITE);
+            for (int i = migrated; i < end; i++) {
+                long key = old.keys[i];
+                if (key == EMPTY) {
+                    continue;
+                }
+                int index = current.indexOf(key);
+                if (current.keys[index] == EMPTY) {
+                    current.keys[index] = key;
+                    current.points[index] = old.points[i];
+                    current.updateMillis[index] = old.updateMillis[i];
+                }
+            }
+            migrated = end;
+            if (migrated == old.keys.length) {
+                previous = null;
+            }
+        }
+
+        private static boolean contains(Table table, long key) {
+            if (table == null) {
+                return false;
+            }
+            int index = table.indexOf(key);
+            return index >= 0 && table.keys[index] == key;
+        }
+
+        private int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            }
+            finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+}
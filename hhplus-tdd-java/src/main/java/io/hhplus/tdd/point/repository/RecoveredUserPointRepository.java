@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재시작 시 복구한 잔액을 delegate 앞에 둡니다.
+ * - 복구한 잔액을 시작할 때 delegate 에 모두 쓰지 않고, 유저가 처음 변경될 때까지 복구한 값으로 조회에 응답합니다.
+ * - 한 번 저장된 유저는 복구 목록에서 빠지고 이후로는 delegate 만 사용합니다.
+ */
+public class RecoveredUserPointRepository implements UserPointRepository {
+
+    private final UserPointRepository delegate;
+    private final ConcurrentHashMap<Long, UserPoint> recovered;
+
+    public RecoveredUserPointRepository(UserPointRepository delegate, Map<Long, UserPoint> recovered) {
+        this.delegate = delegate;
+        this.recovered = new ConcurrentHashMap<>(recovered);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = delegate.insertOrUpdate(id, amount);
+        recovered.remove(id);  // 저장이 끝난 뒤에 빼야 그 사이의 조회가 빈 잔액을 보지 않습니다.
+        return userPoint;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return selectById(id.longValue());
+    }
+
+    // 복구한 유저가 모두 변경된 뒤에는 ID 를 박싱하지 않고 delegate 로 넘깁니다.
+    @Override
+    public UserPoint selectById(long id) {
+        UserPoint userPoint = recovered.isEmpty() ? null : recovered.get(id);
+        return userPoint != null ? userPoint : delegate.selectById(id);
+    }
+}
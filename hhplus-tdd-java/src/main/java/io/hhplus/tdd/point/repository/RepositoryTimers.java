@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+final class RepositoryTimers {
+
+    static final String NAME = "point.repository";
+
+    private RepositoryTimers() {
+    }
+
+    static Timer timer(MeterRegistry registry, String repository, String method, String layer) {
+        return Timer.builder(NAME)
+                .description("Repository method latency")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("layer", layer)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointSummary;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 내역 합계(PointSummary)를 들고 있다가 insert 할 때마다 O(1) 로 갱신합니다.
+ * - 합계가 없는 유저는 처음 조회할 때 delegate 의 내역으로 다시 계산합니다.
+ * - 합계 조회는 락 없이 실행됩니다.
+ * - insert 와 합계 재계산은 유저 ID 로 나눈 stripe 락 안에서 실행되므로,
+ *   재계산이 읽은 내역과 그 뒤에 더해지는 내역이 겹치거나 빠지지 않습니다.
+ */
+public class SummarizingPointHistoryRepository implements PointHistoryRepository {
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final PointHistoryRepository delegate;
+    private final ConcurrentHashMap<Long, PointSummary> summaries = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+
+    public SummarizingPointHistoryRepository(PointHistoryRepository delegate) {
+        this.delegate = delegate;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        ReentrantLock stripe = stripeFor(userId);
+        stripe.lock();
+        try {
+            PointHistory pointHistory = delegate.insert(userId, amount, type, updateMillis);
+            summaries.computeIfPresent(userId, (id, summary) -> summary.plus(pointHistory));
+            return pointHistory;
+        }
+        finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdAfter(long userId, long cursor, TransactionType type, int limit) {
+        return delegate.selectByUserIdAfter(userId, cursor, type, limit);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        return delegate.selectByUserIdBetween(userId, fromMillis, toMillis);
+    }
+
+    @Override
+    public PointSummary summarize(long userId) {
+        PointSummary summary = summaries.get(userId);
+        if (summary != null) {
+            return summary;
+        }
+
+        ReentrantLock stripe = stripeFor(userId);
+        stripe.lock();
+        try {
+            return summaries.computeIfAbsent(userId, id -> delegate.summarize(id));
+        }
+        finally {
+            stripe.unlock();
+        }
+    }
+
+    private ReentrantLock stripeFor(long userId) {
+        return stripes[(Long.hashCode(userId) & 0x7fffffff) % STRIPE_COUNT];
+    }
+}
@@ -5,4 +5,9 @@ import io.hhplus.tdd.point.dto.UserPoint;
 public interface UserPointRepository {
     UserPoint insertOrUpdate(long id, long amount);
     UserPoint selectById(Long id);
+
+    // 유저 ID 를 박싱하지 않고 조회합니다. long 키로 저장하는 구현체와 그 앞의 계층이 재정의합니다.
+    default UserPoint selectById(long id) {
+        return selectById(Long.valueOf(id));
+    }
 }
@@ -2,20 +2,57 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.dto.UserPoint;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * UserPointTable 은 HashMap 을 그대로 쓰므로 동시에 쓰면 안전하지 않습니다.
+ * 유저 ID 로 나눈 STRIPES 개의 테이블에 나눠 저장하고, 테이블마다 따로 잠급니다.
+ * 같은 테이블에 들어간 유저끼리만 쓰기가 차례로 실행되고, 나머지 유저는 테이블 throttle 을 동시에 기다립니다.
+ */
 @Repository
 public class UserPointRepositoryImpl implements UserPointRepository {
-    UserPointTable userPointTable = new UserPointTable();
+
+    static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public UserPointRepositoryImpl() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(new UserPointTable(), new ReentrantReadWriteLock());
+        }
+    }
 
     @Override
     public UserPoint insertOrUpdate(long id, long amount) {
-        return userPointTable.insertOrUpdate(id, amount);
+        Stripe stripe = stripe(id);
+        stripe.lock().writeLock().lock();
+        try {
+            return stripe.table().insertOrUpdate(id, amount);
+        }
+        finally {
+            stripe.lock().writeLock().unlock();
+        }
     }
 
     @Override
     public UserPoint selectById(Long id) {
-        return userPointTable.selectById(id);
+        Stripe stripe = stripe(id);
+        stripe.lock().readLock().lock();
+        try {
+            return stripe.table().selectById(id);
+        }
+        finally {
+            stripe.lock().readLock().unlock();
+        }
+    }
+
+    private Stripe stripe(long id) {
+        return stripes[Math.floorMod(Long.hashCode(id), STRIPES)];
+    }
+
+    private record Stripe(UserPointTable table, ReadWriteLock lock) {
     }
 }
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.Arrays;
+
+/**
+ * 한 유저의 내역 ID 를 저장 순서대로 모아둔 인덱스입니다.
+ * - 쓰기는 MappedPointHistoryRepository 의 appendLock 안에서만 실행되고, 읽기는 락 없이 실행됩니다.
+ * - 배열을 다 채우면 두 배 크기로 복사한 뒤 교체하므로, 읽는 쪽은 size 만큼만 보면 됩니다.
+ * - 저장된 updateMillis 가 ID 순서대로 줄어들지 않았는지 기록해 두므로, 그동안은 ID 순서가 곧 시간 순서입니다.
+ */
+class UserSlotIndex {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private volatile long[] ids = new long[INITIAL_CAPACITY];
+    private volatile int size;
+    private volatile boolean timeOrdered = true;  // size 보다 먼저 기록합니다.
+    private long lastMillis = Long.MIN_VALUE;     // appendLock 안에서만 변경
+
+    void add(long id, long updateMillis) {
+        if (updateMillis < lastMillis) {
+            timeOrdered = false;
+        }
+        lastMillis = updateMillis;
+
+        long[] current = ids;
+        int index = size;
+        if (index == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[index] = id;
+
+        ids = current;  // size 보다 먼저 공개해야 읽는 쪽이 새 배열을 봅니다.
+        size = index + 1;
+    }
+
+    // 읽는 시점의 ID 배열과 개수 (배열은 size 까지만 유효합니다)
+    Snapshot snapshot() {
+        int count = size;
+        return new Snapshot(ids, count, timeOrdered);
+    }
+
+    record Snapshot(long[] ids, int size, boolean timeOrdered) {
+
+        // cursor 보다 큰 첫 번째 ID 의 위치
+        int indexAfter(long cursor) {
+            int index = Arrays.binarySearch(ids, 0, size, cursor);
+            return index >= 0 ? index + 1 : -(index + 1);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * delegate 위에 유저별 버전을 붙여, 읽은 버전이 그대로일 때만 잔액을 저장합니다. (compare-and-set)
+ * - 버전은 메모리에만 있고, 유저를 처음 읽을 때 delegate 에서 불러옵니다.
+ * - 유저 수가 maximumSize 를 넘으면 쓰는 중이 아닌 유저부터 지웁니다. 지운 유저를 다시 불러오면
+ *   지금까지 지운 어떤 버전보다도 큰 버전에서 시작하므로, 지우기 전에 읽은 버전으로는 저장할 수 없습니다.
+ * - 저장은 버전을 확인하고 "쓰는 중" 으로 표시한 뒤 delegate 에 쓰고, 끝나면 버전을 올립니다.
+ *   쓰는 동안 들어온 같은 유저의 compareAndSet 은 기다리지 않고 바로 실패하므로 락이 필요 없습니다.
+ * - 조회는 항상 마지막으로 저장이 끝난 값을 돌려줍니다.
+ * - afterWrite 는 delegate 에 쓴 뒤 버전을 올리기 전, 아직 "쓰는 중" 일 때 실행되므로 같은 유저끼리는 저장 순서대로 실행됩니다.
+ *
+ * 모든 잔액 변경이 이 저장소를 거친다고 가정합니다. delegate 에 직접 쓰면 버전이 이를 알지 못합니다.
+ */
+public class VersionedUserPointStore {
+
+    private final UserPointRepository delegate;
+    private final int maximumSize;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong maxEvictedVersion = new AtomicLong(-1L);  // 지우기 전에 올리므로, 지운 유저를 다시 불러올 때 항상 반영되어 있습니다.
+
+    public VersionedUserPointStore(UserPointRepository delegate) {
+        this(delegate, Integer.MAX_VALUE);
+    }
+
+    public VersionedUserPointStore(UserPointRepository delegate, int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero.");
+        }
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+    }
+
+    public Versioned read(long id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            // 처음 읽는 유저는 아직 아무도 이 저장소로 쓰지 않았으므로, 동시에 불러와도 같은 값입니다.
+            long version = maxEvictedVersion.get() + 1;
+            Entry loaded = new Entry(new Versioned(delegate.selectById(id), version), false);
+            Entry existing = entries.putIfAbsent(id, loaded);
+            entry = existing == null ? loaded : existing;
+            if (existing == null && entries.size() > maximumSize) {
+                evictIdle(id);
+            }
+        }
+        return entry.committed;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // expectedVersion 이 현재 버전이고 다른 저장이 진행 중이 아닐 때만 저장하고 새 버전을 돌려줍니다. 아니면 null 을 돌려줍니다.
+    public Versioned compareAndSet(long id, long expectedVersion, long amount) {
+        return compareAndSet(id, expectedVersion, amount, userPoint -> {
+        });
+    }
+
+    // 저장에 성공하면 버전을 올리기 전에 afterWrite 를 실행합니다. (내역 기록 순서를 잔액 저장 순서와 맞출 때)
+    // afterWrite 가 실패해도 delegate 에는 이미 저장되었으므로 새 버전으로 올린 뒤 예외를 던집니다.
+    public Versioned compareAndSet(long id, long expectedVersion, long amount, Consumer<UserPoint> afterWrite) {
+        Entry current = entries.get(id);
+        if (current == null || current.writing || current.committed.version() != expectedVersion) {
+            return null;
+        }
+
+        Entry writing = new Entry(current.committed, true);
+        if (!entries.replace(id, current, writing)) {
+            return null;
+        }
+
+        Versioned saved;
+        try {
+            saved = new Versioned(delegate.insertOrUpdate(id, amount), expectedVersion + 1);
+        }
+        catch (RuntimeException e) {
+            entries.put(id, current);
+            throw e;
+        }
+
+        try {
+            afterWrite.accept(saved.userPoint());
+        }
+        finally {
+            entries.put(id, new Entry(saved, false));
+        }
+        return saved;
+    }
+
+    // 방금 불러온 유저는 지우지 않습니다. (지우면 읽자마자 저장이 실패해 재시도가 끝나지 않을 수 있습니다)
+    private void evictIdle(long loadedId) {
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maximumSize && iterator.hasNext()) {
+            Map.Entry<Long, Entry> candidate = iterator.next();
+            Entry entry = candidate.getValue();
+            if (candidate.getKey() == loadedId || entry.writing) {
+                continue;
+            }
+            maxEvictedVersion.accumulateAndGet(entry.committed.version(), Math::max);
+            entries.remove(candidate.getKey(), entry);
+        }
+    }
+
+    public record Versioned(UserPoint userPoint, long version) {
+    }
+
+    // replace 가 같은 객체인지로 비교하도록 equals 를 재정의하지 않습니다.
+    private static final class Entry {
+        private final Versioned committed;
+        private final boolean writing;
+
+        private Entry(Versioned committed, boolean writing) {
+            this.committed = committed;
+            this.writing = writing;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 내역을 바로 저장하지 않고 큐에 쌓아둔 뒤, 하나의 drainer 스레드가 순서대로 delegate 에 저장합니다.
+ * - 큐가 가득 차면 insert 를 호출한 스레드가 자리가 날 때까지 대기합니다. (backpressure)
+ *   자리는 ID 를 매기는 잠금 밖에서 기다리므로, 기다리는 동안 다른 유저의 insert 를 막지 않습니다.
+ * - 저장에 실패하면 간격을 늘려가며 다시 시도하고, 그래도 실패하거나 delegate 가 다른 ID 를 부여하면
+ *   더 이상 insert 를 받지 않고 실패 상태로 멈춥니다. (저장되지 않은 내역은 버리지 않고 조회 결과에 계속 포함됩니다)
+ *   큐가 가득 차 자리를 기다리던 insert 도 깨어나 실패합니다.
+ * - 저장 대기 중인 내역도 selectAllByUserId 결과에 포함됩니다. (read-your-writes)
+ * - close 시 큐에 남은 내역을 모두 저장한 뒤 종료합니다.
+ *
+ * delegate 에는 drainer 스레드만 쓰기 때문에 delegate 가 부여할 ID 는 큐에 들어간 순서와 같습니다.
+ * 그래서 insert 시점에 ID 를 미리 정해 돌려주고, 저장 대기 중인 내역과 저장된 내역을 ID 로 구분합니다.
+ */
+@Slf4j
+public class WriteBehindPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final long POLL_MILLIS = 100L;
+    private static final int MAX_PERSIST_ATTEMPTS = 5;
+    private static final long INITIAL_BACKOFF_MILLIS = 10L;
+    private static final long MAX_BACKOFF_MILLIS = 1_000L;
+    private static final int WAKE_UP_PERMITS = Integer.MAX_VALUE / 2;
+
+    private final PointHistoryRepository delegate;
+    private final BlockingQueue<PointHistory> queue;
+    private final Semaphore capacity;  // queue 의 빈자리 수, 자리를 먼저 받은 뒤에 넣으므로 add 는 실패하지 않습니다.
+    private final ConcurrentHashMap<Long, Deque<PointHistory>> pending = new ConcurrentHashMap<>();
+    private final Thread drainer;
+
+    private final ReentrantLock enqueueLock = new ReentrantLock();
+    private long lastIssuedId;  // enqueueLock 안에서만 변경
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Condition drained = drainLock.newCondition();
+    private volatile long lastPersistedId;
+
+    private volatile boolean closed;
+    private volatile RuntimeException failure;
+
+    public WriteBehindPointHistoryRepository(PointHistoryRepository delegate, int queueCapacity, long lastPersistedId) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.capacity = new Semaphore(queueCapacity);
+        this.lastIssuedId = lastPersistedId;
+        this.lastPersistedId = lastPersistedId;
+        this.drainer = new Thread(this::drain, "point-history-writer");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        checkAccepting();
+        try {
+            capacity.acquire();  // 큐가 가득 차면 대기
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the point history queue.", e);
+        }
+
+        enqueueLock.lock();
+        try {
+            checkAccepting();
+
+            PointHistory pointHistory = new PointHistory(lastIssuedId + 1, userId, amount, type, updateMillis);
+            pending.compute(userId, (id, waiting) -> {
+                Deque<PointHistory> deque = waiting == null ? new ConcurrentLinkedDeque<>() : waiting;
+                deque.addLast(pointHistory);
+                return deque;
+            });
+            queue.add(pointHistory);
+
+            lastIssuedId = pointHistory.id();
+            return pointHistory;
+        }
+        catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+        finally {
+            enqueueLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        // 대기 목록을 먼저 읽어야 그 사이에 저장된 내역을 놓치지 않습니다.
+        Deque<PointHistory> waiting = pending.get(userId);
+        List<PointHistory> waitingSnapshot = waiting == null ? List.of() : List.copyOf(waiting);
+
+        List<PointHistory> persisted = delegate.selectAllByUserId(userId);
+        if (waitingSnapshot.isEmpty()) {
+            return persisted;
+        }
+
+        long lastPersisted = persisted.isEmpty() ? 0L : persisted.get(persisted.size() - 1).id();
+        List<PointHistory> result = new ArrayList<>(persisted.size() + waitingSnapshot.size());
+        result.addAll(persisted);
+        for (PointHistory pointHistory : waitingSnapshot) {
+            if (pointHistory.id() > lastPersisted) {
+                result.add(pointHistory);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdAfter(long userId, long cursor, TransactionType type, int limit) {
+        Deque<PointHistory> waiting = pending.get(userId);
+        List<PointHistory> waitingSnapshot = waiting == null ? List.of() : List.copyOf(waiting);
+
+        List<PointHistory> persisted = delegate.selectByUserIdAfter(userId, cursor, type, limit);
+        if (waitingSnapshot.isEmpty() || persisted.size() >= limit) {
+            return persisted;
+        }
+
+        // 저장 대기 중인 내역은 저장된 내역보다 ID 가 크므로 페이지 뒤에 이어 붙입니다.
+        long lastPersisted = persisted.isEmpty() ? cursor : persisted.get(persisted.size() - 1).id();
+        List<PointHistory> result = new ArrayList<>(persisted);
+        for (PointHistory pointHistory : waitingSnapshot) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (pointHistory.id() > lastPersisted && (type == null || pointHistory.type() == type)) {
+                result.add(pointHistory);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        Deque<PointHistory> waiting = pending.get(userId);
+        List<PointHistory> waitingSnapshot = waiting == null ? List.of() : List.copyOf(waiting);
+
+        List<PointHistory> persisted = delegate.selectByUserIdBetween(userId, fromMillis, toMillis);
+        if (waitingSnapshot.isEmpty()) {
+            return persisted;
+        }
+
+        // 내역은 ID 순서대로 저장되므로, 기간 안의 저장된 내역 중 가장 큰 ID 보다 큰 대기 내역만 아직 저장되지 않은 것입니다.
+        long lastPersisted = persisted.stream().mapToLong(PointHistory::id).max().orElse(0L);
+        List<PointHistory> result = new ArrayList<>(persisted);
+        for (PointHistory pointHistory : waitingSnapshot) {
+            if (pointHistory.id() > lastPersisted && pointHistory.updateMillis() >= fromMillis && pointHistory.updateMillis() < toMillis) {
+                result.add(pointHistory);
+            }
+        }
+        if (result.size() > persisted.size()) {
+            result.sort(Comparator.comparingLong(PointHistory::updateMillis));
+        }
+        return result;
+    }
+
+    // 지금까지 insert 된 내역이 모두 저장될 때까지 기다립니다. 저장에 실패해 멈췄으면 예외를 던집니다.
+    public void flush() throws InterruptedException {
+        long target;
+        enqueueLock.lock();
+        try {
+            target = lastIssuedId;
+        }
+        finally {
+            enqueueLock.unlock();
+        }
+
+        drainLock.lock();
+        try {
+            while (lastPersistedId < target && failure == null) {
+                drained.await();
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Point history writer has failed.", failure);
+            }
+        }
+        finally {
+            drainLock.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    @Override
+    public void close() {
+        enqueueLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        finally {
+            enqueueLock.unlock();
+        }
+
+        try {
+            drainer.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while flushing point histories. {} histories are not persisted.", queue.size());
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            PointHistory pointHistory;
+            try {
+                pointHistory = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException e) {
+                continue;  // 남은 내역을 모두 저장할 때까지 종료하지 않습니다.
+            }
+
+            if (pointHistory == null) {
+                if (closed && queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            capacity.release();
+
+            if (!persist(pointHistory)) {
+                return;
+            }
+        }
+    }
+
+    // 저장에 성공하면 true, 다시 시도해도 실패하거나 ID 가 어긋나 멈춰야 하면 false 를 돌려줍니다.
+    private boolean persist(PointHistory pointHistory) {
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            PointHistory saved;
+            try {
+                saved = delegate.insert(
+                        pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+            }
+            catch (RuntimeException e) {
+                if (attempt >= MAX_PERSIST_ATTEMPTS) {
+                    fail(new IllegalStateException("Failed to persist point history after " + attempt + " attempts: " + pointHistory, e));
+                    return false;
+                }
+                log.warn("Failed to persist point history (attempt {}/{}), retrying in {} ms: {}",
+                        attempt, MAX_PERSIST_ATTEMPTS, backoffMillis, pointHistory, e);
+                sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+                continue;
+            }
+
+            // 이후 ID 가 모두 어긋나므로 더 저장하지 않습니다.
+            if (saved.id() != pointHistory.id()) {
+                fail(new IllegalStateException("Point history id mismatch. issued: " + pointHistory.id() + ", saved: " + saved.id()));
+            }
+            removePending(pointHistory);
+            markPersisted(pointHistory.id());
+            return failure == null;
+        }
+    }
+
+    private void checkAccepting() {
+        if (failure != null) {
+            throw new IllegalStateException("Point history writer has failed.", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Point history writer is already closed.");
+        }
+    }
+
+    private void fail(RuntimeException cause) {
+        log.error("Point history writer stopped with {} histories still queued.", queue.size(), cause);
+        drainLock.lock();
+        try {
+            failure = cause;
+            drained.signalAll();
+        }
+        finally {
+            drainLock.unlock();
+        }
+        // drainer 가 멈춰 자리가 더 나지 않으므로, 자리를 기다리는 insert 를 모두 깨워 checkAccepting 에서 실패하게 합니다.
+        // (깨어난 insert 는 받은 자리를 돌려주므로 허가 수가 넘치지 않습니다)
+        capacity.release(WAKE_UP_PERMITS);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            // 종료 중에도 저장을 마칠 때까지 다시 시도합니다.
+        }
+    }
+
+    private void removePending(PointHistory pointHistory) {
+        pending.computeIfPresent(pointHistory.userId(), (id, waiting) -> {
+            waiting.removeFirstOccurrence(pointHistory);
+            return waiting.isEmpty() ? null : waiting;
+        });
+    }
+
+    private void markPersisted(long id) {
+        drainLock.lock();
+        try {
+            lastPersistedId = id;
+            drained.signalAll();
+        }
+        finally {
+            drainLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point.routing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 유저 ID 를 노드에 나눠 맡기는 consistent hash 링입니다. (불변, 노드를 더하거나 빼면 새 링을 만듭니다)
+ * - 노드마다 virtualNodes 개의 점을 링에 올리고, 유저 ID 의 해시에서 시계 방향으로 처음 만나는 점의 노드가 유저를 맡습니다.
+ * - 노드를 하나 더하면 새 노드가 맡게 되는 유저(대략 1/노드 수)만 옮겨지고, 나머지 유저의 담당 노드는 그대로입니다.
+ * - 같은 노드 목록과 virtualNodes 로 만든 링은 어느 인스턴스에서든 같은 결과를 냅니다.
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final String[] owners;
+    private final List<String> nodes;
+    private final int virtualNodes;
+
+    private ConsistentHashRing(List<String> nodes, int virtualNodes) {
+        this.nodes = List.copyOf(nodes);
+        this.virtualNodes = virtualNodes;
+
+        List<Point> ring = new ArrayList<>(nodes.size() * virtualNodes);
+        for (String node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.add(new Point(hash(node + "#" + i), node));
+            }
+        }
+        ring.sort(Comparator.comparingLong(Point::hash).thenComparing(Point::node));
+
+        this.points = new long[ring.size()];
+        this.owners = new String[ring.size()];
+        for (int i = 0; i < ring.size(); i++) {
+            points[i] = ring.get(i).hash();
+            owners[i] = ring.get(i).node();
+        }
+    }
+
+    public static ConsistentHashRing of(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("Ring needs at least one node.");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be at least 1.");
+        }
+        return new ConsistentHashRing(new ArrayList<>(new TreeSet<>(nodes)), virtualNodes);
+    }
+
+    public ConsistentHashRing withNode(String node) {
+        if (nodes.contains(node)) {
+            return this;
+        }
+        List<String> added = new ArrayList<>(nodes);
+        added.add(node);
+        return of(added, virtualNodes);
+    }
+
+    public ConsistentHashRing withoutNode(String node) {
+        List<String> removed = new ArrayList<>(nodes);
+        removed.remove(node);
+        return removed.size() == nodes.size() ? this : of(removed, virtualNodes);
+    }
+
+    public String owner(long userId) {
+        int index = Arrays.binarySearch(points, mix(userId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    public int virtualNodes() {
+        return virtualNodes;
+    }
+
+    // FNV-1a 로 바이트를 섞은 뒤 한 번 더 섞습니다.
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // MurmurHash3 fmix64 : 연속된 유저 ID 도 링 전체에 고르게 흩어지게 합니다.
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private record Point(long hash, String node) {
+    }
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point.routing;
+
+import io.hhplus.tdd.Exception.MisdirectedRequestException;
+import io.hhplus.tdd.point.config.PointProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 이 인스턴스가 알고 있는 노드 목록과 consistent hash 링입니다.
+ * 링과 노드 주소는 한 번에 바꿔 끼우므로, 노드를 더하거나 빼는 동안에도 요청은 잠금 없이 담당 노드를 찾습니다.
+ *
+ * 노드를 더하면 그 노드가 맡게 되는 유저의 요청만 새 노드로 옮겨 갑니다. 잔액과 내역은 옮기지 않으므로,
+ * 옮겨 간 유저는 새 노드에서 처음부터 시작합니다. 모든 노드에 같은 변경을 반영해야 요청이 한 노드로 모입니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class PointRing {
+
+    private final String self;
+    private volatile State state;
+
+    @Autowired
+    public PointRing(PointProperties properties) {
+        this(properties.getCluster().getSelf(), nodes(properties.getCluster()), properties.getCluster().getVirtualNodes());
+    }
+
+    public PointRing(String self, Map<String, String> nodes, int virtualNodes) {
+        if (self == null || !nodes.containsKey(self)) {
+            throw new IllegalArgumentException("point.cluster.self must be one of point.cluster.nodes.");
+        }
+        this.self = self;
+        Map<String, URI> urls = new TreeMap<>();
+        nodes.forEach((id, url) -> urls.put(id, uri(url)));
+        this.state = new State(ConsistentHashRing.of(urls.keySet(), virtualNodes), urls);
+    }
+
+    public String self() {
+        return self;
+    }
+
+    public Node route(long userId) {
+        State current = state;
+        String owner = current.ring().owner(userId);
+        return new Node(owner, current.urls().get(owner));
+    }
+
+    public boolean isLocal(long userId) {
+        return self.equals(state.ring().owner(userId));
+    }
+
+    // 여러 유저를 다루는 요청은 전달하지 않으므로, 다른 노드가 맡은 유저가 하나라도 있으면 아무것도 처리하지 않고 거절합니다.
+    public void checkLocal(Collection<Long> userIds) {
+        State current = state;
+        Map<Long, String> remote = new TreeMap<>();
+        for (Long userId : userIds) {
+            if (userId == null) {
+                continue;  // 잘못된 ID 는 PointService 에서 400 으로 응답합니다.
+            }
+            String owner = current.ring().owner(userId);
+            if (!self.equals(owner)) {
+                remote.put(userId, owner);
+            }
+        }
+        if (!remote.isEmpty()) {
+            throw new MisdirectedRequestException("Users owned by other nodes (user=node): " + remote);
+        }
+    }
+
+    // 노드를 더하거나 주소를 바꿉니다.
+    public synchronized void add(String id, String url) {
+        State current = state;
+        Map<String, URI> urls = new TreeMap<>(current.urls());
+        urls.put(id, uri(url));
+        state = new State(current.ring().withNode(id), urls);
+    }
+
+    public synchronized void remove(String id) {
+        if (self.equals(id)) {
+            throw new IllegalArgumentException("Cannot remove the local node from its own ring.");
+        }
+        State current = state;
+        if (!current.urls().containsKey(id)) {
+            return;
+        }
+        Map<String, URI> urls = new TreeMap<>(current.urls());
+        urls.remove(id);
+        state = new State(current.ring().withoutNode(id), urls);
+    }
+
+    public Map<String, URI> nodes() {
+        return state.urls();
+    }
+
+    public int virtualNodes() {
+        return state.ring().virtualNodes();
+    }
+
+    private static Map<String, String> nodes(PointProperties.Cluster cluster) {
+        Map<String, String> nodes = new LinkedHashMap<>();
+        for (PointProperties.Node node : cluster.getNodes()) {
+            nodes.put(node.getId(), node.getUrl());
+        }
+        return nodes;
+    }
+
+    private static URI uri(String url) {
+        URI uri = URI.create(url);
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            throw new IllegalArgumentException("Node url must be absolute: " + url);
+        }
+        return uri;
+    }
+
+    public record Node(String id, URI url) {
+    }
+
+    private record State(ConsistentHashRing ring, Map<String, URI> urls) {
+        State {
+            urls = Collections.unmodifiableMap(urls);
+        }
+    }
+}
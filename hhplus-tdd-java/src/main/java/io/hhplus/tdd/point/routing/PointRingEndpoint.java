@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point.routing;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * 이 인스턴스의 consistent hash 링을 보여주고 바꾸는 actuator 엔드포인트입니다.
+ * - GET /actuator/ring
+ * - POST /actuator/ring {"id": "node-4", "url": "http://10.0.0.4:8080"} : 노드를 더합니다.
+ * - DELETE /actuator/ring/{id} : 노드를 뺍니다.
+ * 링은 인스턴스마다 따로 들고 있으므로 모든 노드에 같은 요청을 보내야 합니다.
+ * 인증 없이 링을 바꿀 수 있으므로 웹에는 기본으로 노출하지 않습니다.
+ * (management.endpoints.web.exposure.include 에 ring 을 더하고, management.server.port 로 내부망에만 여세요)
+ */
+@Component
+@Endpoint(id = "ring")
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class PointRingEndpoint {
+
+    private final PointRing ring;
+
+    public PointRingEndpoint(PointRing ring) {
+        this.ring = ring;
+    }
+
+    @ReadOperation
+    public RingSnapshot ring() {
+        return new RingSnapshot(ring.self(), ring.virtualNodes(), ring.nodes());
+    }
+
+    @WriteOperation
+    public RingSnapshot add(String id, String url) {
+        ring.add(id, url);
+        return ring();
+    }
+
+    @DeleteOperation
+    public RingSnapshot remove(@Selector String id) {
+        ring.remove(id);
+        return ring();
+    }
+
+    public record RingSnapshot(
+            String self,
+            int virtualNodes,
+            Map<String, URI> nodes
+    ) {
+    }
+}
@@ -0,0 +1,163 @@
+package io.hhplus.tdd.point.routing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.point.config.PointProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PointController 앞에서 /point/{id}/** 요청을 유저 ID 를 맡은 노드로 보냅니다.
+ * - 이 노드가 맡은 유저이면 그대로 처리하고, 아니면 담당 노드로 전달해 받은 응답(상태, 헤더, 본문)을 그대로 돌려줍니다.
+ * - 전달한 요청에는 X-Point-Forwarded-By 헤더를 붙이고, 이 헤더가 있는 요청은 링과 상관없이 직접 처리합니다.
+ *   (노드마다 링이 잠시 다르더라도 요청이 노드 사이를 돌지 않습니다)
+ * - 담당 노드에 연결할 수 없거나 forwardTimeoutMillis 안에 응답이 없으면 503 으로 응답합니다.
+ * - 여러 유저를 다루는 요청(GET /point?ids=, /point/lookup, /point/batch)은 전달하지 않습니다.
+ *   PointController 가 PointRing#checkLocal 로 확인해, 다른 노드가 맡은 유저가 섞여 있으면 421 로 거절합니다.
+ * - /point/ledger/export 는 받은 노드가 저장한 내역만 내려줍니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class PointRoutingFilter extends OncePerRequestFilter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PointRoutingFilter.class);
+
+    public static final String FORWARDED_BY = "X-Point-Forwarded-By";
+
+    private static final Pattern USER_PATH = Pattern.compile("^/point/(-?\\d+)(/.*)?$");
+    private static final Set<String> FORWARDED_REQUEST_HEADERS = Set.of("content-type", "accept", "idempotency-key");
+    private static final Set<String> SKIPPED_RESPONSE_HEADERS = Set.of("connection", "content-length", "date", "keep-alive", "transfer-encoding");
+
+    private final PointRing ring;
+    private final ObjectMapper objectMapper;
+    private final Duration forwardTimeout;
+    private final HttpClient httpClient;
+
+    @Autowired
+    public PointRoutingFilter(PointRing ring, ObjectMapper objectMapper, PointProperties properties) {
+        this(ring, objectMapper, Duration.ofMillis(properties.getCluster().getForwardTimeoutMillis()));
+    }
+
+    public PointRoutingFilter(PointRing ring, ObjectMapper objectMapper, Duration forwardTimeout) {
+        this.ring = ring;
+        this.objectMapper = objectMapper;
+        this.forwardTimeout = forwardTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(forwardTimeout)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long userId = userId(request);
+        if (userId == null || request.getHeader(FORWARDED_BY) != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        PointRing.Node owner = ring.route(userId);
+        if (owner.id().equals(ring.self())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        forward(request, response, owner);
+    }
+
+    private Long userId(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Matcher matcher = USER_PATH.matcher(path);
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(matcher.group(1));
+        }
+        catch (NumberFormatException e) {
+            // long 범위를 넘는 ID 는 컨트롤러에서 400 으로 응답합니다.
+            return null;
+        }
+    }
+
+    private void forward(HttpServletRequest request, HttpServletResponse response, PointRing.Node owner) throws IOException {
+        String query = request.getQueryString();
+        URI target = owner.url().resolve(request.getRequestURI() + (query == null ? "" : "?" + query));
+
+        byte[] body = request.getInputStream().readAllBytes();
+        HttpRequest.Builder forwarded = HttpRequest.newBuilder(target)
+                .timeout(forwardTimeout)
+                .method(request.getMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body))
+                .header(FORWARDED_BY, ring.self());
+        for (String name : FORWARDED_REQUEST_HEADERS) {
+            String value = request.getHeader(name);
+            if (value != null) {
+                forwarded.header(name, value);
+            }
+        }
+
+        HttpResponse<InputStream> ownerResponse;
+        try {
+            ownerResponse = httpClient.send(forwarded.build(), HttpResponse.BodyHandlers.ofInputStream());
+        }
+        catch (IOException e) {
+            log.warn("Failed to forward {} {} to node {}.", request.getMethod(), target, owner.id(), e);
+            unavailable(response, owner);
+            return;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unavailable(response, owner);
+            return;
+        }
+
+        response.setStatus(ownerResponse.statusCode());
+        ownerResponse.headers().map().forEach((name, values) -> {
+            if (!SKIPPED_RESPONSE_HEADERS.contains(name.toLowerCase())) {
+                values.forEach(value -> response.addHeader(name, value));
+            }
+        });
+        try (InputStream in = ownerResponse.body()) {
+            OutputStream out = response.getOutputStream();
+            in.transferTo(out);
+            out.flush();
+        }
+    }
+
+    private void unavailable(HttpServletResponse response, PointRing.Node owner) throws IOException {
+        response.setStatus(503);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("503", "Node " + owner.id() + " owning this user is unavailable."));
+    }
+
+    @Override
+    public void destroy() {
+        httpClient.shutdownNow();
+    }
+}
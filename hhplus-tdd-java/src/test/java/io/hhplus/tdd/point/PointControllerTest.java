@@ -1,27 +1,45 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.Exception.TooManyRequestsException;
 import io.hhplus.tdd.Exception.UserNotFoundException;
 import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.PointSummary;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.dto.UserPointLookup;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -165,4 +183,234 @@ public class PointControllerTest {
                 .andExpect(jsonPath("$.point").value(userPoint.point() + chargeAmount));
     }
 
+    @Test
+    @DisplayName("🟢PATCH /point/1111/use Idempotency-Key 헤더가 있으면 키와 함께 서비스에 전달한다.")
+    public void testUse_IdempotencyKey() throws Exception {
+        // given
+        when(pointService.usePoint(1111, 1000, "retry-1")).thenReturn(new UserPoint(1111, 4000, 10000));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                patch("/point/{id}/use", 1111)
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"amount\": 1000}")
+        );
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(4000));
+        verify(pointService, never()).usePoint(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("🔴PATCH /point/1111/use 유저별 요청 제한에 걸리면 429 로 응답한다.")
+    public void testUse_TooManyRequests() throws Exception {
+        // given
+        when(pointService.usePoint(1111, 1000)).thenThrow(new TooManyRequestsException("Too many requests for user 1111. Retry later."));
+
+        // when & then
+        mockMvc.perform(patch("/point/{id}/use", 1111)
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"amount\": 1000}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value("429"));
+    }
+
+    @Test
+    @DisplayName("🟢PATCH /point/1111/charge/async 비동기로 충전한 결과를 반환한다.")
+    public void testChargeAsync_Success() throws Exception {
+        // given
+        when(pointService.chargePointAsync(1111, 2000)).thenReturn(CompletableFuture.completedFuture(new UserPoint(1111, 2000, 10000)));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                        patch("/point/{id}/charge/async", 1111)
+                                .contentType(APPLICATION_JSON)
+                                .content("{\"amount\": 2000}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(2000));
+    }
+
+    @Test
+    @DisplayName("🔴GET /point/1111/async 제한 시간 안에 끝나지 않으면 503 을 반환한다.")
+    public void testPointAsync_Timeout() throws Exception {
+        // given
+        when(pointService.getUserPointByIdAsync(1111)).thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/point/1111/async"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("503"));
+    }
+
+    @Test
+    @DisplayName("🔴PATCH /point/1111/charge/async request 풀이 가득 차면 503 으로 응답한다.")
+    public void testChargeAsync_PoolFull() throws Exception {
+        // given
+        when(pointService.chargePointAsync(1111, 2000)).thenThrow(new RejectedExecutionException("request pool is full"));
+
+        // when & then
+        mockMvc.perform(patch("/point/{id}/charge/async", 1111)
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"amount\": 2000}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value("503"));
+    }
+
+    @Test
+    @DisplayName("🟢POST /point/batch 연산별 결과가 요청 순서대로 반환되는지 확인.")
+    public void testBatch_Success() throws Exception {
+        // given
+        PointOperation charge = new PointOperation(1111, TransactionType.CHARGE, 2000);
+        PointOperation use = new PointOperation(1111, TransactionType.USE, 9000);
+        List<PointOperationResult> results = List.of(
+                PointOperationResult.success(0, charge, 2000),
+                PointOperationResult.failure(1, use, 2000L, "User doesn't have enough charging points.")
+        );
+
+        when(pointService.applyBatch(List.of(charge, use))).thenReturn(results);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/point/batch")
+                        .contentType(APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(Map.of("operations", List.of(charge, use))))
+        );
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].point").value(2000))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].message").value("User doesn't have enough charging points."));
+    }
+
+    @Test
+    @DisplayName("🟢GET /point?ids= 여러 유저의 잔액을 ID 별로 조회하고, 없는 유저는 found=false 로 표시한다.")
+    public void testPoints_Success() throws Exception {
+        // given
+        Map<Long, UserPointLookup> results = new LinkedHashMap<>();
+        results.put(1111L, UserPointLookup.found(new UserPoint(1111, 5000, 0)));
+        results.put(2222L, UserPointLookup.notFound());
+        when(pointService.getUserPoints(List.of(1111L, 2222L))).thenReturn(results);
+
+        // when & then
+        mockMvc.perform(get("/point").param("ids", "1111,2222"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.1111.found").value(true))
+                .andExpect(jsonPath("$.1111.userPoint.point").value(5000))
+                .andExpect(jsonPath("$.2222.found").value(false));
+    }
+
+    @Test
+    @DisplayName("🟢POST /point/lookup 본문의 ID 목록으로 여러 유저의 잔액을 조회한다.")
+    public void testLookup_Success() throws Exception {
+        // given
+        when(pointService.getUserPoints(List.of(1111L, 2222L)))
+                .thenReturn(Map.of(1111L, UserPointLookup.found(new UserPoint(1111, 5000, 0))));
+
+        // when & then
+        mockMvc.perform(post("/point/lookup")
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"ids\":[1111,2222]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.1111.userPoint.point").value(5000));
+    }
+
+    @Test
+    @DisplayName("🟢GET /point/1111/histories?from=&to= 기간 안의 내역만 조회하고, 한쪽이 없으면 열린 기간으로 조회한다.")
+    public void testHistory_Between() throws Exception {
+        // given
+        when(pointService.getUserPointHistoriesBetween(1111, 100, 200))
+                .thenReturn(List.of(new PointHistory(3, 1111, 2500, TransactionType.USE, 150)));
+        when(pointService.getUserPointHistoriesBetween(1111, 100, Long.MAX_VALUE)).thenReturn(List.of());
+
+        // when & then
+        mockMvc.perform(get("/point/1111/histories").param("from", "100").param("to", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].updateMillis").value(150));
+        mockMvc.perform(get("/point/1111/histories").param("from", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        verify(pointService, never()).getUserPointHistories(anyLong());
+    }
+
+    @Test
+    @DisplayName("🟢GET /point/1111/summary 충전/사용 합계와 건수를 조회한다.")
+    public void testSummary_Success() throws Exception {
+        // given
+        when(pointService.getUserPointSummary(1111)).thenReturn(new PointSummary(1111, 8000, 3000, 3, 2));
+
+        // when & then
+        mockMvc.perform(get("/point/1111/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCharged").value(8000))
+                .andExpect(jsonPath("$.totalUsed").value(3000))
+                .andExpect(jsonPath("$.chargeCount").value(3))
+                .andExpect(jsonPath("$.useCount").value(2));
+    }
+
+    @Test
+    @DisplayName("🟢GET /point/1111/histories/page 커서와 종류로 내역을 조회한다.")
+    public void testHistoryPage_Success() throws Exception {
+        // given
+        List<PointHistory> pointHistories = List.of(
+                new PointHistory(11, 1111, 1000, TransactionType.CHARGE, 100),
+                new PointHistory(15, 1111, 2000, TransactionType.CHARGE, 150)
+        );
+
+        when(pointService.getUserPointHistoryPage(1111, 10, TransactionType.CHARGE, 2))
+                .thenReturn(new PointHistoryPage(pointHistories, 15L));
+
+        // when & then
+        mockMvc.perform(get("/point/1111/histories/page")
+                        .param("cursor", "10")
+                        .param("limit", "2")
+                        .param("type", "CHARGE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.histories[0].id").value(11))
+                .andExpect(jsonPath("$.histories[1].id").value(15))
+                .andExpect(jsonPath("$.nextCursor").value(15));
+    }
+
+    @Test
+    @DisplayName("🟢GET /point/1111/histories/stream 내역을 한 줄에 하나씩 내려준다.")
+    public void testHistoryStream_Success() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            Consumer<PointHistory> action = invocation.getArgument(2);
+            action.accept(new PointHistory(1, 1111, 1000, TransactionType.CHARGE, 100));
+            action.accept(new PointHistory(2, 1111, 500, TransactionType.USE, 200));
+            return null;
+        }).when(pointService).forEachUserPointHistory(eq(1111L), isNull(), any());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/point/1111/histories/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(new ObjectMapper().writeValueAsString(new PointHistory(2, 1111, 500, TransactionType.USE, 200)), lines[1]);
+    }
+
 }
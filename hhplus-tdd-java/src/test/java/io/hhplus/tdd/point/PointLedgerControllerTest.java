@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.ledger.LedgerTrailer;
+import io.hhplus.tdd.point.ledger.PointLedgerExporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PointLedgerController.class)
+public class PointLedgerControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PointLedgerExporter pointLedgerExporter;
+
+    @Test
+    @DisplayName("🟢GET /point/ledger/export?afterId=10 원장을 내려준다.")
+    public void testExport_Success() throws Exception {
+        // given
+        when(pointLedgerExporter.export(eq(10L), any(OutputStream.class))).thenReturn(new LedgerTrailer(10L, 0L));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/point/ledger/export").param("afterId", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM));
+        verify(pointLedgerExporter).export(eq(10L), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("🔴전체 내역을 읽을 수 없는 저장소이면 본문을 쓰기 전에 에러로 응답한다.")
+    public void testExport_Unavailable() throws Exception {
+        // given
+        doThrow(new IllegalStateException("Ledger export needs the mapped history store or the history index."))
+                .when(pointLedgerExporter).checkAvailable();
+
+        // when & then
+        mockMvc.perform(get("/point/ledger/export"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.code").value("500"));
+        verify(pointLedgerExporter, never()).export(anyLong(), any());
+    }
+}
@@ -0,0 +1,157 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.admission.PointAdmission;
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.engine.LockingPointCommandEngine;
+import io.hhplus.tdd.point.engine.PointLedger;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointServiceAsyncTest {
+
+    private final GatedUserPointRepository userPointRepository = new GatedUserPointRepository();
+    private final InMemoryPointHistoryRepository pointHistoryRepository = new InMemoryPointHistoryRepository();
+    private PointExecutors pointExecutors;
+    private PointService pointService;
+
+    @BeforeEach
+    public void setUp() {
+        PointProperties properties = new PointProperties();
+        properties.getExecutor().setRequestTimeoutMillis(200);
+        properties.getExecutor().setRequest(new PointProperties.Pool(1, 1));
+        pointExecutors = new PointExecutors(properties, new StandardEnvironment());
+        pointService = new PointService(userPointRepository, pointHistoryRepository,
+                new LockingPointCommandEngine(new UserLockManager(), new PointLedger(userPointRepository, pointHistoryRepository), pointExecutors),
+                new IdempotencyStore(properties), pointExecutors, PointAdmission.unlimited());
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        userPointRepository.gate.countDown();
+        pointExecutors.shutdown();
+    }
+
+    @Test
+    @DisplayName("🟢비동기 충전은 호출한 스레드가 아닌 request 풀에서 실행된다.")
+    public void testChargeAsync_RunsOnRequestPool() {
+        // given
+        userPointRepository.gate.countDown();
+
+        // when
+        UserPoint userPoint = pointService.chargePointAsync(1L, 1000L).join();
+
+        // then
+        assertEquals(1000L, userPoint.point());
+        assertTrue(userPointRepository.writerThread.startsWith("point-request-"), userPointRepository.writerThread);
+    }
+
+    @Test
+    @DisplayName("🔴제한 시간이 지나면 TimeoutException 으로 완료되고, 같은 Idempotency-Key 로 재시도해도 한 번만 충전된다.")
+    public void testChargeAsync_TimeoutAndRetry() throws Exception {
+        // given: 저장이 끝나지 않아 첫 요청이 제한 시간을 넘긴다.
+        CompletableFuture<UserPoint> first = pointService.chargePointAsync(1L, 1000L, "retry-1");
+        CompletionException exception = assertThrows(CompletionException.class, first::join);
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+
+        // when: 저장이 끝난 뒤 같은 키로 재시도
+        userPointRepository.gate.countDown();
+        UserPoint retried = pointService.chargePointAsync(1L, 1000L, "retry-1").join();
+
+        // then
+        assertEquals(1000L, retried.point());
+        assertEquals(1, userPointRepository.writes.get());
+        assertEquals(1, pointHistoryRepository.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName("🔴request 풀이 가득 차면 호출한 스레드에서 실행하지 않고 바로 거절한다.")
+    public void testChargeAsync_RejectedWhenPoolIsFull() {
+        // given: 스레드 1개는 저장에서 막혀 있고 대기열 1칸도 차 있다.
+        CompletableFuture<UserPoint> running = pointService.chargePointAsync(1L, 1000L);
+        CompletableFuture<UserPoint> queued = pointService.chargePointAsync(2L, 1000L);
+
+        // when & then
+        assertThrows(RejectedExecutionException.class, () -> pointService.chargePointAsync(3L, 1000L));
+        assertThrows(RejectedExecutionException.class, () -> pointService.getUserPointByIdAsync(3L));
+        assertEquals(UserPoint.empty(3L).point(), userPointRepository.selectById(3L).point());
+
+        userPointRepository.gate.countDown();
+        assertEquals(1000L, running.join().point());
+        assertEquals(1000L, queued.join().point());
+    }
+
+    @Test
+    @DisplayName("🔴비동기 충전도 금액 검증에 실패하면 바로 예외가 발생한다.")
+    public void testChargeAsync_InvalidAmount() {
+        assertThrows(IllegalArgumentException.class, () -> pointService.chargePointAsync(1L, 500L));
+    }
+
+    // gate 가 열릴 때까지 저장을 끝내지 않는 저장소
+    private static class GatedUserPointRepository implements UserPointRepository {
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicInteger writes = new AtomicInteger();
+        private volatile String writerThread;
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            writerThread = Thread.currentThread().getName();
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            writes.incrementAndGet();
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+    }
+
+    private static class InMemoryPointHistoryRepository implements PointHistoryRepository {
+        private final List<PointHistory> table = new CopyOnWriteArrayList<>();
+        private final AtomicInteger cursor = new AtomicInteger(1);
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
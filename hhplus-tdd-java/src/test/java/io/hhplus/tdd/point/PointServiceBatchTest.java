@@ -0,0 +1,175 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.admission.PointAdmission;
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.engine.LockingPointCommandEngine;
+import io.hhplus.tdd.point.engine.PointLedger;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PointServiceBatchTest {
+
+    @Mock
+    private UserPointRepository userPointRepository;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    private PointExecutors pointExecutors;
+    private PointService pointService;
+
+    @BeforeEach
+    public void setUp() {
+        pointExecutors = new PointExecutors(new PointProperties(), new StandardEnvironment());
+        PointLedger pointLedger = new PointLedger(userPointRepository, pointHistoryRepository);
+        pointService = new PointService(userPointRepository, pointHistoryRepository,
+                new LockingPointCommandEngine(new UserLockManager(), pointLedger, pointExecutors),
+                new IdempotencyStore(new PointProperties()), pointExecutors, PointAdmission.unlimited());
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        pointExecutors.shutdown();
+    }
+
+    @Test
+    @DisplayName("🟢유저별로 잔액을 한 번만 저장하고, 결과는 요청 순서대로 반환한다.")
+    public void testBatch_Success() {
+        // given
+        when(userPointRepository.selectById(1L)).thenReturn(new UserPoint(1L, 0L, 0L));
+        when(userPointRepository.selectById(2L)).thenReturn(new UserPoint(2L, 3000L, 0L));
+        when(userPointRepository.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation ->
+                new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L));
+
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, TransactionType.CHARGE, 2000L),
+                new PointOperation(2L, TransactionType.USE, 1000L),
+                new PointOperation(1L, TransactionType.USE, 500L)
+        );
+
+        // when
+        List<PointOperationResult> results = pointService.applyBatch(operations);
+
+        // then
+        assertEquals(3, results.size());
+        assertEquals(2000L, results.get(0).point());
+        assertEquals(2000L, results.get(1).point());
+        assertEquals(1500L, results.get(2).point());
+        assertTrue(results.stream().allMatch(PointOperationResult::success));
+
+        verify(userPointRepository, times(1)).insertOrUpdate(1L, 1500L);
+        verify(userPointRepository, times(1)).insertOrUpdate(2L, 2000L);
+        verify(pointHistoryRepository, times(2)).insert(eq(1L), anyLong(), any(), anyLong());
+        verify(pointHistoryRepository, times(1)).insert(eq(2L), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("🔴잔액이 부족한 연산만 실패하고, 나머지 연산은 반영된다.")
+    public void testBatch_InsufficientPoints() {
+        // given
+        when(userPointRepository.selectById(1L)).thenReturn(new UserPoint(1L, 1000L, 0L));
+        when(userPointRepository.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation ->
+                new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L));
+
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, TransactionType.USE, 3000L),
+                new PointOperation(1L, TransactionType.CHARGE, 1000L)
+        );
+
+        // when
+        List<PointOperationResult> results = pointService.applyBatch(operations);
+
+        // then
+        assertFalse(results.get(0).success());
+        assertEquals(1000L, results.get(0).point());
+        assertEquals("User doesn't have enough charging points.", results.get(0).message());
+        assertTrue(results.get(1).success());
+        assertEquals(2000L, results.get(1).point());
+
+        verify(userPointRepository, times(1)).insertOrUpdate(1L, 2000L);
+        verify(pointHistoryRepository, times(1)).insert(eq(1L), eq(1000L), eq(TransactionType.CHARGE), anyLong());
+        verify(pointHistoryRepository, never()).insert(anyLong(), anyLong(), eq(TransactionType.USE), anyLong());
+    }
+
+    @Test
+    @DisplayName("🔴모든 연산이 실패하면 잔액을 저장하지 않는다.")
+    public void testBatch_AllFailed() {
+        // given
+        when(userPointRepository.selectById(1L)).thenReturn(new UserPoint(1L, 0L, 0L));
+
+        // when
+        List<PointOperationResult> results = pointService.applyBatch(List.of(
+                new PointOperation(1L, TransactionType.CHARGE, 500L)
+        ));
+
+        // then
+        assertFalse(results.get(0).success());
+        assertEquals("Amount must be more than 1000.", results.get(0).message());
+        verify(userPointRepository, never()).insertOrUpdate(anyLong(), anyLong());
+        verifyNoInteractions(pointHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("🔴요청 제한에 걸린 유저의 연산은 실행하지 않고 실패로 반환하며, 다른 유저의 연산은 반영된다.")
+    public void testBatch_AdmissionRejected() {
+        // given: 유저마다 토큰 2개
+        PointProperties.Admission admission = new PointProperties.Admission();
+        admission.setRatePerSecond(0.001);
+        admission.setBurst(2);
+        PointLedger pointLedger = new PointLedger(userPointRepository, pointHistoryRepository);
+        PointService limitedService = new PointService(userPointRepository, pointHistoryRepository,
+                new LockingPointCommandEngine(new UserLockManager(), pointLedger, pointExecutors),
+                new IdempotencyStore(new PointProperties()), pointExecutors, new PointAdmission(admission, null, System::nanoTime));
+        when(userPointRepository.selectById(2L)).thenReturn(new UserPoint(2L, 0L, 0L));
+        when(userPointRepository.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation ->
+                new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L));
+
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, TransactionType.CHARGE, 2000L),
+                new PointOperation(2L, TransactionType.CHARGE, 2000L),
+                new PointOperation(1L, TransactionType.CHARGE, 2000L),
+                new PointOperation(1L, TransactionType.CHARGE, 2000L)
+        );
+
+        // when
+        List<PointOperationResult> results = limitedService.applyBatch(operations);
+
+        // then
+        assertTrue(results.get(1).success());
+        for (int index : List.of(0, 2, 3)) {
+            assertFalse(results.get(index).success());
+            assertEquals(index, results.get(index).index());
+            assertEquals("Too many requests for user 1. Retry later.", results.get(index).message());
+        }
+        verify(userPointRepository, never()).selectById(1L);
+        verify(userPointRepository, never()).insertOrUpdate(eq(1L), anyLong());
+    }
+
+    @Test
+    @DisplayName("🔴빈 배치 요청은 예외가 발생한다.")
+    public void testBatch_Empty() {
+        assertThrows(IllegalArgumentException.class, () -> pointService.applyBatch(List.of()));
+    }
+}
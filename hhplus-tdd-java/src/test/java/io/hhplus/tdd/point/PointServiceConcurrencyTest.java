@@ -0,0 +1,202 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.admission.PointAdmission;
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.engine.LockingPointCommandEngine;
+import io.hhplus.tdd.point.engine.PointLedger;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointServiceConcurrencyTest {
+
+    private static final int OPERATIONS = 32;
+    private static final long WRITE_MILLIS = 20L;
+    private static final int TABLE_OPERATIONS = 8;
+
+    @Test
+    @DisplayName("🟢서로 다른 유저의 충전은 유저 락을 기다리지 않고 동시에 실행된다.")
+    public void testDistinctUsersRunInParallel() throws Exception {
+        // given: 두 유저의 쓰기가 모두 시작되어야 각 쓰기가 끝나는 저장소
+        CountDownLatch bothWriting = new CountDownLatch(2);
+        AtomicInteger overlapped = new AtomicInteger();
+        SlowUserPointRepository userPointRepository = new SlowUserPointRepository() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                bothWriting.countDown();
+                try {
+                    if (bothWriting.await(5, TimeUnit.SECONDS)) {
+                        overlapped.incrementAndGet();
+                    }
+                }
+                catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        PointService pointService = newPointService(userPointRepository, new UserLockManager());
+
+        // when
+        runConcurrently(2, i -> pointService.chargePoint(i + 1L, 1000L));
+
+        // then: 한 유저의 쓰기가 다른 유저의 락 때문에 기다렸다면 await 가 시간 초과로 끝난다.
+        assertEquals(2, overlapped.get());
+    }
+
+    @Test
+    @DisplayName("🟢실제 테이블 저장소에서도 서로 다른 유저가 많아질수록 처리량이 늘어난다.")
+    public void testThroughputGrowsWithDistinctUsersOnTables() throws Exception {
+        // when: 테이블 throttle(조회 0~200ms, 쓰기 0~300ms)을 그대로 거친다.
+        double oneUser = measureTableThroughput(1);
+        double manyUsers = measureTableThroughput(TABLE_OPERATIONS);
+
+        // then: 같은 유저는 차례로 실행되고, 다른 유저는 테이블 잠금을 서로 기다리지 않는다.
+        assertTrue(manyUsers > oneUser * 3, TABLE_OPERATIONS + "명: " + manyUsers + " ops/s, 1명: " + oneUser + " ops/s");
+    }
+
+    @Test
+    @DisplayName("🟢같은 유저의 충전/사용은 동시에 실행되지 않는다.")
+    public void testSameUserOperationsAreSerialized() throws Exception {
+        // given
+        SlowUserPointRepository userPointRepository = new SlowUserPointRepository();
+        UserLockManager userLockManager = new UserLockManager();
+        PointService pointService = newPointService(userPointRepository, userLockManager);
+        long id = 1L;
+
+        // when
+        runConcurrently(OPERATIONS, i -> {
+            pointService.chargePoint(id, 1000L);
+            pointService.usePoint(id, 100L);
+        });
+
+        // then
+        assertEquals((1000L - 100L) * OPERATIONS, userPointRepository.selectById(id).point());
+        assertEquals(1, userPointRepository.maxConcurrentWriters());
+        assertEquals(0, userLockManager.activeLockCount());
+    }
+
+    private double measureTableThroughput(int distinctUsers) throws Exception {
+        PointService pointService = newPointService(
+                new UserPointRepositoryImpl(), new PointHistoryRepositoryImpl(), new UserLockManager());
+
+        long start = System.nanoTime();
+        runConcurrently(TABLE_OPERATIONS, i -> pointService.chargePoint(i % distinctUsers + 1L, 1000L));
+        long elapsed = System.nanoTime() - start;
+
+        return TABLE_OPERATIONS / (elapsed / 1_000_000_000.0);
+    }
+
+    private PointService newPointService(UserPointRepository userPointRepository, UserLockManager userLockManager) {
+        return newPointService(userPointRepository, new InMemoryPointHistoryRepository(), userLockManager);
+    }
+
+    private PointService newPointService(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                                         UserLockManager userLockManager) {
+        PointLedger pointLedger = new PointLedger(userPointRepository, pointHistoryRepository);
+        PointExecutors pointExecutors = new PointExecutors(new PointProperties(), new StandardEnvironment());
+
+        return new PointService(userPointRepository, pointHistoryRepository,
+                new LockingPointCommandEngine(userLockManager, pointLedger, pointExecutors),
+                new IdempotencyStore(new PointProperties()), pointExecutors, PointAdmission.unlimited());
+    }
+
+    private void runConcurrently(int count, IntTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    task.run(index);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntTask {
+        void run(int index);
+    }
+
+    // 테이블 throttle 대신 고정된 지연을 주고, 유저별 동시 쓰기 수를 기록하는 저장소
+    private static class SlowUserPointRepository implements UserPointRepository {
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+        private final Map<Long, AtomicInteger> writers = new ConcurrentHashMap<>();
+        private final AtomicInteger maxConcurrentWriters = new AtomicInteger();
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            AtomicInteger current = writers.computeIfAbsent(id, key -> new AtomicInteger());
+            maxConcurrentWriters.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(WRITE_MILLIS);
+                UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+                table.put(id, userPoint);
+                return userPoint;
+            }
+            catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            finally {
+                current.decrementAndGet();
+            }
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        int maxConcurrentWriters() {
+            return maxConcurrentWriters.get();
+        }
+    }
+
+    private static class InMemoryPointHistoryRepository implements PointHistoryRepository {
+        private final List<PointHistory> table = new CopyOnWriteArrayList<>();
+        private final AtomicInteger cursor = new AtomicInteger(1);
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
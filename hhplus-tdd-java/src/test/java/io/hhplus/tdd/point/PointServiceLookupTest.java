@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.admission.PointAdmission;
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.dto.UserPointLookup;
+import io.hhplus.tdd.point.engine.LockingPointCommandEngine;
+import io.hhplus.tdd.point.engine.PointLedger;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointServiceLookupTest {
+
+    private static final long SELECT_MILLIS = 200;
+
+    private final SlowUserPointRepository userPointRepository = new SlowUserPointRepository();
+    private PointExecutors pointExecutors;
+    private PointService pointService;
+
+    @BeforeEach
+    public void setUp() {
+        PointProperties properties = new PointProperties();
+        pointExecutors = new PointExecutors(properties, new StandardEnvironment());
+        pointService = new PointService(userPointRepository, new PointHistoryRepositoryImpl(), null,
+                new IdempotencyStore(properties), pointExecutors, PointAdmission.unlimited());
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        pointExecutors.shutdown();
+    }
+
+    @Test
+    @DisplayName("🟢여러 유저의 잔액을 동시에 조회해, 전체 시간이 조회 시간의 합보다 훨씬 짧다.")
+    public void testGetUserPoints_FanOut() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 20).boxed().toList();
+        ids.forEach(id -> userPointRepository.insertOrUpdate(id, id * 1000));
+
+        // when
+        long start = System.nanoTime();
+        Map<Long, UserPointLookup> results = pointService.getUserPoints(ids);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then: 순서대로 조회하면 20 * 200ms = 4초
+        assertEquals(ids, new ArrayList<>(results.keySet()));
+        assertEquals(5000L, results.get(5L).userPoint().point());
+        assertTrue(elapsedMillis < SELECT_MILLIS * ids.size() / 2, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("🟢중복된 ID 는 한 번만 조회하고, 없는 유저는 found=false 로 반환한다.")
+    public void testGetUserPoints_DedupAndNotFound() {
+        // given
+        userPointRepository.insertOrUpdate(2L, 3000L);
+
+        // when
+        Map<Long, UserPointLookup> results = pointService.getUserPoints(List.of(2L, 7L, 2L, 2L));
+
+        // then
+        assertEquals(List.of(2L, 7L), new ArrayList<>(results.keySet()));
+        assertTrue(results.get(2L).found());
+        assertEquals(3000L, results.get(2L).userPoint().point());
+        assertEquals(UserPointLookup.notFound(), results.get(7L));
+        assertEquals(2, userPointRepository.selectCount.get());
+    }
+
+    @Test
+    @DisplayName("🟢실제 테이블 저장소에서도 충전/사용한 적 없는 유저만 found=false 이고, 잔액을 모두 쓴 유저는 found 이다.")
+    public void testGetUserPoints_NotFoundWithTables() {
+        // given
+        UserPointRepository tableUserPointRepository = new UserPointRepositoryImpl();
+        PointHistoryRepository tablePointHistoryRepository = new PointHistoryRepositoryImpl();
+        PointLedger pointLedger = new PointLedger(tableUserPointRepository, tablePointHistoryRepository);
+        PointService tableService = new PointService(tableUserPointRepository, tablePointHistoryRepository,
+                new LockingPointCommandEngine(new UserLockManager(), pointLedger, pointExecutors),
+                new IdempotencyStore(new PointProperties()), pointExecutors, PointAdmission.unlimited());
+        tableService.chargePoint(1L, 5000L);
+        tableService.chargePoint(2L, 5000L);
+        tableService.usePoint(2L, 5000L);
+
+        // when
+        Map<Long, UserPointLookup> results = tableService.getUserPoints(List.of(1L, 2L, 3L));
+
+        // then
+        assertEquals(5000L, results.get(1L).userPoint().point());
+        assertTrue(results.get(2L).found());
+        assertEquals(0L, results.get(2L).userPoint().point());
+        assertEquals(UserPointLookup.notFound(), results.get(3L));
+    }
+
+    @Test
+    @DisplayName("🔴ID 가 비어 있거나 음수가 있으면 예외가 발생한다.")
+    public void testGetUserPoints_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> pointService.getUserPoints(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> pointService.getUserPoints(List.of(1L, -1L)));
+    }
+
+    // 조회할 때마다 SELECT_MILLIS 만큼 걸리고, 실제 테이블처럼 저장된 적 없는 유저는 잔액 0 을 반환합니다.
+    private static class SlowUserPointRepository implements UserPointRepository {
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+        private final AtomicInteger selectCount = new AtomicInteger();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            selectCount.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(SELECT_MILLIS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.TddApplication;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tomcat 스레드를 20개로 제한한 상태에서 동시에 처리 중인 요청 수를 virtual thread 모드 ON/OFF 로 비교합니다.
+ */
+@Tag("load")
+public class VirtualThreadLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int MAX_PLATFORM_THREADS = 20;
+    private static final int CONCURRENT_REQUESTS = 200;
+
+    @Test
+    @DisplayName("🟢virtual thread 모드에서는 Tomcat 스레드 수보다 많은 요청을 동시에 처리한다.")
+    public void testInFlightCapacity() throws Exception {
+        // when
+        LoadResult platform = runLoad(false);
+        LoadResult virtual = runLoad(true);
+
+        log.info("platform threads: max in-flight {}, {} ms", platform.maxInFlight(), platform.elapsedMillis());
+        log.info("virtual threads : max in-flight {}, {} ms", virtual.maxInFlight(), virtual.elapsedMillis());
+
+        // then
+        assertTrue(platform.maxInFlight() <= MAX_PLATFORM_THREADS, "platform max in-flight: " + platform.maxInFlight());
+        assertTrue(virtual.maxInFlight() > platform.maxInFlight() * 2,
+                "virtual max in-flight: " + virtual.maxInFlight() + ", platform: " + platform.maxInFlight());
+        assertEquals(0, platform.failures());
+        assertEquals(0, virtual.failures());
+    }
+
+    private LoadResult runLoad(boolean virtualThreads) throws Exception {
+        InFlightCounter counter = new InFlightCounter();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("inFlightCounter", counter.filter()))
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=" + MAX_PLATFORM_THREADS,
+                        "--spring.threads.virtual.enabled=" + virtualThreads
+                );
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient httpClient = HttpClient.newBuilder().executor(clients).build();
+
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int userId = 1; userId <= CONCURRENT_REQUESTS; userId++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId + "/charge"))
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"amount\":1000}"))
+                        .build();
+                responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+
+            int failures = 0;
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                if (response.join().statusCode() != 200) {
+                    failures++;
+                }
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            return new LoadResult(counter.max.get(), elapsedMillis, failures);
+        }
+        finally {
+            context.close();
+        }
+    }
+
+    private record LoadResult(int maxInFlight, long elapsedMillis, int failures) {
+    }
+
+    // 서버에서 동시에 처리 중인 요청 수의 최대값을 기록합니다.
+    private static class InFlightCounter {
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        Filter filter() {
+            return (request, response, chain) -> {
+                max.accumulateAndGet(current.incrementAndGet(), Math::max);
+                try {
+                    chain.doFilter(request, response);
+                }
+                finally {
+                    current.decrementAndGet();
+                }
+            };
+        }
+    }
+}
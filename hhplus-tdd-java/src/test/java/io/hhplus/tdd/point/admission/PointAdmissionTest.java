@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.admission;
+
+import io.hhplus.tdd.Exception.TooManyRequestsException;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointAdmissionTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("🔴토큰을 다 쓰면 거절하고, 시간이 지나 토큰이 채워지면 다시 받는다. 다른 유저는 영향을 받지 않는다.")
+    public void testRateLimit() {
+        // given: 초당 10개, 최대 2개
+        PointAdmission admission = newAdmission(10, 2, 16, 100);
+
+        // when & then
+        admission.acquire(1L).release();
+        admission.acquire(1L).release();
+        assertThrows(TooManyRequestsException.class, () -> admission.acquire(1L));
+        admission.acquire(2L).release();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        admission.acquire(1L).release();
+        assertThrows(TooManyRequestsException.class, () -> admission.acquire(1L));
+
+        assertEquals(2.0, rejected("rate"));
+    }
+
+    @Test
+    @DisplayName("🔴실행 중인 요청 뒤에서 기다리는 요청이 maxQueuedPerUser 를 넘으면 거절하고, 요청이 끝나면 다시 받는다.")
+    public void testQueueLimit() {
+        // given: 실행 1개 + 대기 2개까지
+        PointAdmission admission = newAdmission(1000, 1000, 2, 100);
+        PointAdmission.Permit running = admission.acquire(1L);
+        admission.acquire(1L);
+        admission.acquire(1L);
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> admission.acquire(1L));
+        running.release();
+        assertDoesNotThrow(() -> admission.acquire(1L));
+        assertEquals(1.0, rejected("queue"));
+    }
+
+    @Test
+    @DisplayName("🟢유저 수가 maxUsers 에 닿으면 쉬고 있는 유저를 지우고, 실행 중인 유저만 남아 있으면 새 유저를 거절한다.")
+    public void testMaxUsers() {
+        // given
+        PointAdmission admission = newAdmission(10, 10, 16, 2);
+        admission.acquire(1L).release();
+        PointAdmission.Permit busy = admission.acquire(2L);
+
+        // when: 1번 유저의 토큰이 다 채워진 뒤 새 유저가 들어온다.
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        admission.acquire(3L).release();
+
+        // then
+        assertEquals(2, admission.trackedUsers());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        PointAdmission.Permit busy3 = admission.acquire(3L);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThrows(TooManyRequestsException.class, () -> admission.acquire(4L));
+        assertEquals(1.0, rejected("capacity"));
+
+        busy.release();
+        busy3.release();
+    }
+
+    @Test
+    @DisplayName("🔴여러 연산을 한 번에 받으면 연산 수만큼 토큰을 쓰고, 실행 중인 자리는 하나만 차지한다.")
+    public void testAcquireOperations() {
+        // given: 초당 1개, 최대 5개, 실행 1개 + 대기 1개까지
+        PointAdmission admission = newAdmission(1, 5, 1, 100);
+
+        // when & then
+        PointAdmission.Permit batch = admission.acquire(1L, 3);
+        PointAdmission.Permit single = admission.acquire(1L);
+        assertThrows(TooManyRequestsException.class, () -> admission.acquire(1L));  // 실행 중인 자리 2개가 모두 참
+        batch.release();
+        single.release();
+        assertThrows(TooManyRequestsException.class, () -> admission.acquire(1L, 2));  // 토큰 1개만 남음
+        assertThrows(TooManyRequestsException.class, () -> admission.acquire(2L, 6));  // burst 보다 많음
+        assertDoesNotThrow(() -> admission.acquire(1L, 1).release());
+    }
+
+    @Test
+    @DisplayName("🟢비활성화하면 제한하지 않는다.")
+    public void testUnlimited() {
+        PointAdmission admission = PointAdmission.unlimited();
+        for (int i = 0; i < 1000; i++) {
+            admission.acquire(1L);
+        }
+        assertEquals(0, admission.trackedUsers());
+    }
+
+    private PointAdmission newAdmission(double ratePerSecond, int burst, int maxQueuedPerUser, int maxUsers) {
+        PointProperties.Admission admission = new PointProperties.Admission();
+        admission.setRatePerSecond(ratePerSecond);
+        admission.setBurst(burst);
+        admission.setMaxQueuedPerUser(maxQueuedPerUser);
+        admission.setMaxUsers(maxUsers);
+        return new PointAdmission(admission, registry, now::get);
+    }
+
+    private double rejected(String reason) {
+        return registry.get("point.admission.rejected").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,175 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.Exception.InsufficientPointsException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CombiningPointCommandEngineTest {
+
+    private static final long DELAY_MILLIS = 50L;
+    private static final int CALLERS = 20;
+
+    private final PointExecutors pointExecutors = new PointExecutors(new PointProperties(), new StandardEnvironment());
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        pointExecutors.shutdown();
+    }
+
+    @Test
+    @DisplayName("🟢같은 유저에게 동시에 들어온 충전은 모아서 처리되어 저장소 왕복이 줄어든다.")
+    public void testHotKeyIsCombined() throws Exception {
+        // given
+        SlowUserPointRepository userPointRepository = new SlowUserPointRepository();
+        InMemoryPointHistoryRepository pointHistoryRepository = new InMemoryPointHistoryRepository();
+        CombiningPointCommandEngine engine = newEngine(userPointRepository, pointHistoryRepository);
+
+        // when
+        long start = System.nanoTime();
+        List<UserPoint> results = runConcurrently(CALLERS,
+                () -> engine.execute(new PointOperation(1L, TransactionType.CHARGE, 1000L)).join());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then: 하나씩 처리했다면 CALLERS * (조회 + 저장) = 2초 이상 걸린다.
+        assertEquals(CALLERS * 1000L, userPointRepository.selectById(1L).point());
+        assertEquals(CALLERS, pointHistoryRepository.selectAllByUserId(1L).size());
+        assertEquals(CALLERS, results.stream().map(UserPoint::point).distinct().count());
+        assertTrue(userPointRepository.writes.get() < CALLERS / 2, "writes: " + userPointRepository.writes.get());
+        assertTrue(elapsedMillis < CALLERS * DELAY_MILLIS, "elapsed: " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("🔴모아서 처리할 때 잔액을 넘는 사용 연산만 실패하고, 각 호출자는 자신의 결과를 받는다.")
+    public void testOverdrawIsRejectedIndividually() throws Exception {
+        // given: 3000 포인트를 가진 유저에게 2000 포인트 사용이 동시에 여러 번 들어온다.
+        SlowUserPointRepository userPointRepository = new SlowUserPointRepository();
+        userPointRepository.insertOrUpdate(1L, 3000L);
+        InMemoryPointHistoryRepository pointHistoryRepository = new InMemoryPointHistoryRepository();
+        CombiningPointCommandEngine engine = newEngine(userPointRepository, pointHistoryRepository);
+
+        // when
+        List<String> outcomes = runConcurrently(5, () -> {
+            try {
+                return "success:" + engine.execute(new PointOperation(1L, TransactionType.USE, 2000L)).join().point();
+            }
+            catch (CompletionException e) {
+                assertInstanceOf(InsufficientPointsException.class, e.getCause());
+                return "insufficient";
+            }
+        });
+
+        // then
+        assertEquals(1, outcomes.stream().filter(outcome -> outcome.equals("success:1000")).count());
+        assertEquals(4, outcomes.stream().filter(outcome -> outcome.equals("insufficient")).count());
+        assertEquals(1000L, userPointRepository.selectById(1L).point());
+        assertEquals(1, pointHistoryRepository.selectAllByUserId(1L).size());
+    }
+
+    private CombiningPointCommandEngine newEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+        return new CombiningPointCommandEngine(
+                new UserLockManager(), new PointLedger(userPointRepository, pointHistoryRepository), pointExecutors);
+    }
+
+    private <T> List<T> runConcurrently(int count, Supplier<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        CountDownLatch ready = new CountDownLatch(count);
+        try {
+            List<CompletableFuture<T>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    ready.countDown();
+                    try {
+                        ready.await();
+                    }
+                    catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return task.get();
+                }, executor));
+            }
+
+            List<T> results = new ArrayList<>();
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 조회와 저장에 고정된 지연을 주고 저장 횟수를 기록하는 저장소
+    private static class SlowUserPointRepository implements UserPointRepository {
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+        private final AtomicInteger writes = new AtomicInteger();
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            writes.incrementAndGet();
+            sleep();
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            sleep();
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        private static void sleep() {
+            try {
+                TimeUnit.MILLISECONDS.sleep(DELAY_MILLIS);
+            }
+            catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class InMemoryPointHistoryRepository implements PointHistoryRepository {
+        private final List<PointHistory> table = new CopyOnWriteArrayList<>();
+        private final AtomicInteger cursor = new AtomicInteger(1);
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
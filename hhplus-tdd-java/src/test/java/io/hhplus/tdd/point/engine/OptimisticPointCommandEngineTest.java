@@ -0,0 +1,190 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.Exception.ConcurrentUpdateException;
+import io.hhplus.tdd.Exception.InsufficientPointsException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.VersionedUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticPointCommandEngineTest {
+
+    private static final int CALLERS = 10;
+
+    private final PointExecutors pointExecutors = new PointExecutors(new PointProperties(), new StandardEnvironment());
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        pointExecutors.shutdown();
+    }
+
+    @Test
+    @DisplayName("🟢같은 유저에게 동시에 충전하면 충돌한 요청은 다시 시도되어 모두 반영된다.")
+    public void testConflictsAreRetried() throws Exception {
+        // given
+        SlowUserPointRepository userPointRepository = new SlowUserPointRepository();
+        InMemoryPointHistoryRepository pointHistoryRepository = new InMemoryPointHistoryRepository();
+        OptimisticPointCommandEngine engine = newEngine(userPointRepository, pointHistoryRepository, 1_000);
+
+        // when
+        List<Throwable> failures = runConcurrently(() -> engine.execute(new PointOperation(1L, TransactionType.CHARGE, 1000L)));
+
+        // then
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertEquals(CALLERS * 1000L, userPointRepository.selectById(1L).point());
+        assertEquals(CALLERS, pointHistoryRepository.selectAllByUserId(1L).size());
+        assertTrue(registry.get("point.optimistic.conflicts").tag("type", "CHARGE").counter().count() > 0);
+    }
+
+    @Test
+    @DisplayName("🔴재시도를 모두 소진하면 ConcurrentUpdateException 으로 실패하고, 실패한 연산은 반영되지 않는다.")
+    public void testRetriesExhausted() throws Exception {
+        // given: 한 번만 시도한다.
+        SlowUserPointRepository userPointRepository = new SlowUserPointRepository();
+        InMemoryPointHistoryRepository pointHistoryRepository = new InMemoryPointHistoryRepository();
+        OptimisticPointCommandEngine engine = newEngine(userPointRepository, pointHistoryRepository, 1);
+
+        // when
+        List<Throwable> failures = runConcurrently(() -> engine.execute(new PointOperation(1L, TransactionType.CHARGE, 1000L)));
+
+        // then
+        int succeeded = CALLERS - failures.size();
+        assertFalse(failures.isEmpty());
+        assertTrue(failures.stream().allMatch(ConcurrentUpdateException.class::isInstance), failures.toString());
+        assertEquals(succeeded * 1000L, userPointRepository.selectById(1L).point());
+        assertEquals(succeeded, pointHistoryRepository.selectAllByUserId(1L).size());
+        assertEquals(failures.size(), registry.get("point.optimistic.exhausted").tag("type", "CHARGE").counter().count());
+    }
+
+    @Test
+    @DisplayName("🔴잔액이 부족하면 다시 시도하지 않고 InsufficientPointsException 으로 실패한다.")
+    public void testInsufficientPoints() {
+        // given
+        SlowUserPointRepository userPointRepository = new SlowUserPointRepository();
+        OptimisticPointCommandEngine engine = newEngine(userPointRepository, new InMemoryPointHistoryRepository(), 10);
+
+        // when
+        CompletableFuture<UserPoint> future = engine.execute(new PointOperation(1L, TransactionType.USE, 1000L));
+
+        // then
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(InsufficientPointsException.class, exception.getCause());
+        assertEquals(0, userPointRepository.writes.get());
+    }
+
+    private OptimisticPointCommandEngine newEngine(UserPointRepository userPointRepository,
+                                                   PointHistoryRepository pointHistoryRepository, int maxAttempts) {
+        PointProperties.Optimistic optimistic = new PointProperties.Optimistic();
+        optimistic.setMaxAttempts(maxAttempts);
+        optimistic.setBackoffMillis(1);
+        optimistic.setMaxBackoffMillis(20);
+        return new OptimisticPointCommandEngine(new VersionedUserPointStore(userPointRepository),
+                new PointLedger(userPointRepository, pointHistoryRepository), pointExecutors, optimistic, registry);
+    }
+
+    // 모든 호출자가 함께 출발하도록 맞춘 뒤 실행하고, 실패 원인만 모아서 돌려줍니다.
+    private List<Throwable> runConcurrently(Supplier<CompletableFuture<UserPoint>> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch ready = new CountDownLatch(CALLERS);
+        try {
+            List<CompletableFuture<Throwable>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    ready.countDown();
+                    try {
+                        ready.await();
+                        task.get().join();
+                        return null;
+                    }
+                    catch (CompletionException e) {
+                        return e.getCause();
+                    }
+                    catch (InterruptedException e) {
+                        return e;
+                    }
+                }, executor));
+            }
+
+            List<Throwable> failures = new ArrayList<>();
+            for (CompletableFuture<Throwable> future : futures) {
+                Throwable failure = future.get(30, TimeUnit.SECONDS);
+                if (failure != null) {
+                    failures.add(failure);
+                }
+            }
+            return failures;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 저장에 지연을 줘서 충돌이 나기 쉽게 만든 저장소
+    private static class SlowUserPointRepository implements UserPointRepository {
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+        private final AtomicInteger writes = new AtomicInteger();
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            writes.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+            catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+    }
+
+    private static class InMemoryPointHistoryRepository implements PointHistoryRepository {
+        private final List<PointHistory> table = new CopyOnWriteArrayList<>();
+        private final AtomicInteger cursor = new AtomicInteger(1);
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.Exception.InsufficientPointsException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedPointCommandEngineTest {
+
+    @Test
+    @DisplayName("🟢같은 유저의 연산은 항상 같은 스레드에서 하나씩 실행되어 잔액이 맞는다.")
+    public void testSingleWriterPerUser() throws Exception {
+        // given
+        RecordingUserPointRepository userPointRepository = new RecordingUserPointRepository();
+        PointLedger pointLedger = new PointLedger(userPointRepository, new InMemoryPointHistoryRepository());
+        ShardedPointCommandEngine engine = new ShardedPointCommandEngine(pointLedger, 4, 100);
+
+        // when: 여러 스레드에서 동시에 10명의 유저에게 충전
+        List<CompletableFuture<UserPoint>> futures = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Void>> clients = new ArrayList<>();
+        for (int client = 0; client < 8; client++) {
+            clients.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 100; i++) {
+                    futures.add(engine.execute(new PointOperation(i % 10, TransactionType.CHARGE, 1000L)));
+                }
+            }));
+        }
+        CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        engine.close();
+
+        // then
+        for (long userId = 0; userId < 10; userId++) {
+            assertEquals(8 * 10 * 1000L, userPointRepository.selectById(userId).point());
+            assertEquals(1, userPointRepository.writerThreads.get(userId).size());
+        }
+        assertEquals(1, userPointRepository.maxConcurrentWriters.get());
+    }
+
+    @Test
+    @DisplayName("🔴잔액이 부족하면 future 가 InsufficientPointsException 으로 완료된다.")
+    public void testInsufficientPoints() {
+        // given
+        PointLedger pointLedger = new PointLedger(new RecordingUserPointRepository(), new InMemoryPointHistoryRepository());
+        ShardedPointCommandEngine engine = new ShardedPointCommandEngine(pointLedger, 2, 10);
+
+        // when
+        CompletableFuture<UserPoint> future = engine.execute(new PointOperation(1L, TransactionType.USE, 1000L));
+
+        // then
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(InsufficientPointsException.class, exception.getCause());
+        engine.close();
+    }
+
+    @Test
+    @DisplayName("🟢종료 시 대기열에 남은 연산을 모두 실행하고, 이후 연산은 거부한다.")
+    public void testGracefulShutdown() {
+        // given
+        RecordingUserPointRepository userPointRepository = new RecordingUserPointRepository();
+        userPointRepository.delayMillis = 5;
+        PointLedger pointLedger = new PointLedger(userPointRepository, new InMemoryPointHistoryRepository());
+        ShardedPointCommandEngine engine = new ShardedPointCommandEngine(pointLedger, 1, 100);
+
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(engine.execute(new PointOperation(1L, TransactionType.CHARGE, 1000L)));
+        }
+
+        // when
+        engine.close();
+
+        // then
+        assertTrue(futures.stream().allMatch(future -> future.isDone() && !future.isCompletedExceptionally()));
+        assertEquals(50 * 1000L, userPointRepository.selectById(1L).point());
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> engine.execute(new PointOperation(1L, TransactionType.CHARGE, 1000L)).get());
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    // 유저별로 어떤 스레드가 쓰기를 했는지, 같은 유저에 대한 쓰기가 겹쳤는지 기록하는 저장소
+    private static class RecordingUserPointRepository implements UserPointRepository {
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+        private final Map<Long, Set<String>> writerThreads = new ConcurrentHashMap<>();
+        private final Map<Long, AtomicInteger> writers = new ConcurrentHashMap<>();
+        private final AtomicInteger maxConcurrentWriters = new AtomicInteger();
+        private volatile long delayMillis;
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            writerThreads.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+            AtomicInteger current = writers.computeIfAbsent(id, key -> new AtomicInteger());
+            maxConcurrentWriters.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+                UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+                table.put(id, userPoint);
+                return userPoint;
+            }
+            catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            finally {
+                current.decrementAndGet();
+            }
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+    }
+
+    private static class InMemoryPointHistoryRepository implements PointHistoryRepository {
+        private final List<PointHistory> table = new CopyOnWriteArrayList<>();
+        private final AtomicInteger cursor = new AtomicInteger(1);
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.Exception.InsufficientPointsException;
+import io.hhplus.tdd.Exception.TooManyRequestsException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+
+    private static final PointOperation CHARGE = new PointOperation(1L, TransactionType.CHARGE, 1000L);
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("🟢같은 키로 다시 요청하면 실행하지 않고 처음 결과를 돌려준다.")
+    public void testRepeatReturnsCachedResult() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(10, 1_000L, now::get);
+        UserPoint first = store.execute("key-1", CHARGE, () -> charge(1000L)).join();
+
+        // when
+        UserPoint repeated = store.execute("key-1", CHARGE, () -> charge(2000L)).join();
+
+        // then
+        assertEquals(first, repeated);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("🟢처음 요청이 실행 중이면 같은 키의 요청은 다시 실행하지 않고 그 결과를 기다린다.")
+    public void testInFlightDuplicateWaitsForOriginal() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(10, 1_000L, now::get);
+        CompletableFuture<UserPoint> original = new CompletableFuture<>();
+        CompletableFuture<UserPoint> first = store.execute("key-1", CHARGE, () -> {
+            executions.incrementAndGet();
+            return original;
+        });
+
+        // when
+        CompletableFuture<UserPoint> duplicate = store.execute("key-1", CHARGE, () -> charge(1000L));
+        original.complete(new UserPoint(1L, 1000L, 0L));
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals(1000L, duplicate.join().point());
+        assertEquals(first.join(), duplicate.join());
+    }
+
+    @Test
+    @DisplayName("🟢ttl 이 지나거나 최대 개수를 넘어 지워진 키는 다시 실행된다.")
+    public void testExpiredAndEvictedKeysRunAgain() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(2, 1_000L, now::get);
+        store.execute("key-1", CHARGE, () -> charge(1000L)).join();
+        store.execute("key-2", CHARGE, () -> charge(2000L)).join();
+        store.execute("key-3", CHARGE, () -> charge(3000L)).join();  // key-1 이 지워진다.
+
+        // when
+        UserPoint evicted = store.execute("key-1", CHARGE, () -> charge(4000L)).join();
+        now.addAndGet(1_000L);
+        UserPoint expired = store.execute("key-3", CHARGE, () -> charge(5000L)).join();
+
+        // then
+        assertEquals(4000L, evicted.point());
+        assertEquals(5000L, expired.point());
+        assertEquals(5, executions.get());
+        assertTrue(store.size() <= 2);
+    }
+
+    @Test
+    @DisplayName("🔴실패한 요청은 기억하지 않으므로 같은 키로 재시도하면 다시 실행된다.")
+    public void testFailureIsNotCached() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(10, 1_000L, now::get);
+        CompletableFuture<UserPoint> failed = store.execute("key-1", CHARGE, () -> {
+            executions.incrementAndGet();
+            throw new InsufficientPointsException("User doesn't have enough charging points.");
+        });
+
+        // when
+        UserPoint retried = store.execute("key-1", CHARGE, () -> charge(1000L)).join();
+
+        // then
+        CompletionException exception = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(InsufficientPointsException.class, exception.getCause());
+        assertEquals(1000L, retried.point());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("🔴실패한 요청이 계속 들어와도 저장 순서 목록은 최대 개수를 넘지 않는다.")
+    public void testFailuresDoNotGrowInsertionOrder() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(2, 1_000L, now::get);
+
+        // when: ttl 안에 서로 다른 키의 실패한 요청이 계속 들어온다.
+        for (int i = 0; i < 100; i++) {
+            store.execute("failed-" + i, CHARGE, () -> CompletableFuture.failedFuture(new TooManyRequestsException("Too many requests.")));
+        }
+        UserPoint succeeded = store.execute("key-1", CHARGE, () -> charge(1000L)).join();
+
+        // then
+        assertEquals(1000L, succeeded.point());
+        assertEquals(1, store.size());
+        assertTrue(store.queuedCount() <= 2, "queued: " + store.queuedCount());
+        assertEquals(1000L, store.execute("key-1", CHARGE, () -> charge(2000L)).join().point());
+    }
+
+    @Test
+    @DisplayName("🔴같은 키를 다른 요청에 쓰면 예외가 발생한다.")
+    public void testKeyReusedForDifferentRequest() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(10, 1_000L, now::get);
+        store.execute("key-1", CHARGE, () -> charge(1000L)).join();
+
+        // when & then
+        PointOperation use = new PointOperation(1L, TransactionType.USE, 1000L);
+        assertThrows(IllegalArgumentException.class, () -> store.execute("key-1", use, () -> charge(0L)));
+        assertThrows(IllegalArgumentException.class, () -> store.execute(" ", CHARGE, () -> charge(0L)));
+        assertEquals(1, executions.get());
+    }
+
+    private CompletableFuture<UserPoint> charge(long point) {
+        executions.incrementAndGet();
+        return CompletableFuture.completedFuture(new UserPoint(1L, point, 0L));
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointLedgerExporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("🟢매핑 파일 저장소는 ID 순서대로 내보내고, lastId 이후로 이어서 내보내면 새 내역만 담긴다.")
+    public void testExportMappedIncrementally() throws Exception {
+        try (MappedPointHistoryRepository repository = new MappedPointHistoryRepository(directory.resolve("point-history.log"), 16)) {
+            // given
+            for (int i = 0; i < 40; i++) {
+                repository.insert(i % 3, 100L + i, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+            }
+            PointLedgerExporter exporter = new PointLedgerExporter(repository);
+
+            // when
+            ByteArrayOutputStream first = new ByteArrayOutputStream();
+            LedgerTrailer firstTrailer = exporter.export(0L, first);
+            for (int i = 40; i < 50; i++) {
+                repository.insert(7L, 100L + i, TransactionType.CHARGE, i);
+            }
+            ByteArrayOutputStream next = new ByteArrayOutputStream();
+            LedgerTrailer nextTrailer = exporter.export(firstTrailer.lastId(), next);
+            ByteArrayOutputStream empty = new ByteArrayOutputStream();
+            LedgerTrailer emptyTrailer = exporter.export(nextTrailer.lastId(), empty);
+
+            // then
+            List<PointHistory> firstRead = read(first);
+            assertEquals(new LedgerTrailer(40L, 40L), firstTrailer);
+            assertEquals(new PointHistory(2L, 1L, 101L, TransactionType.USE, 1L), firstRead.get(1));
+            assertEquals(List.of(41L, 42L, 43L, 44L, 45L, 46L, 47L, 48L, 49L, 50L),
+                    read(next).stream().map(PointHistory::id).toList());
+            assertEquals(new LedgerTrailer(50L, 10L), nextTrailer);
+            assertEquals(new LedgerTrailer(50L, 0L), emptyTrailer);
+        }
+    }
+
+    @Test
+    @DisplayName("🟢유저별 인덱스는 유저 단위로 내보내지만, 모으면 afterId 이후의 내역이 빠짐없이 담긴다.")
+    public void testExportIndexed() throws Exception {
+        // given
+        AtomicLong sequence = new AtomicLong(1);
+        PointHistoryRepository table = new PointHistoryRepository() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                return new PointHistory(sequence.getAndIncrement(), userId, amount, type, updateMillis);
+            }
+
+            @Override
+            public List<PointHistory> selectAllByUserId(long userId) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(table);
+        List<PointHistory> inserted = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            inserted.add(repository.insert(i % 7, 10L * i, i % 5 == 0 ? TransactionType.USE : TransactionType.CHARGE, i));
+        }
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LedgerTrailer trailer = new PointLedgerExporter(repository).export(30L, out);
+
+        // then
+        List<PointHistory> read = new ArrayList<>(read(out));
+        read.sort(Comparator.comparingLong(PointHistory::id));
+        assertEquals(new LedgerTrailer(100L, 70L), trailer);
+        assertEquals(inserted.subList(30, 100), read);
+    }
+
+    @Test
+    @DisplayName("🔴전체를 읽을 수 없는 저장소이거나 afterId 가 음수이면 예외가 발생한다.")
+    public void testExportUnsupported() {
+        // given
+        PointLedgerExporter unsupported = new PointLedgerExporter(null);
+        PointLedgerExporter exporter = new PointLedgerExporter(new IndexedPointHistoryRepository(null));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> unsupported.export(0L, new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class, () -> exporter.export(-1L, new ByteArrayOutputStream()));
+    }
+
+    private static List<PointHistory> read(ByteArrayOutputStream out) throws Exception {
+        List<PointHistory> histories = new ArrayList<>();
+        new PointLedgerReader(new ByteArrayInputStream(out.toByteArray())).read(histories::add);
+        return histories;
+    }
+}
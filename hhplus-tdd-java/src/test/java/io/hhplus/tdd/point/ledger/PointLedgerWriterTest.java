@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointLedgerWriterTest {
+
+    @Test
+    @DisplayName("🟢여러 블록에 걸친 내역을 순서와 값 그대로 다시 읽고, 행당 크기는 원래 크기보다 작다.")
+    public void testRoundTrip() throws Exception {
+        // given: 블록 경계를 넘고, ID/유저/시간이 앞 행보다 작아지는 경우와 음수 금액을 포함한다.
+        List<PointHistory> histories = new ArrayList<>();
+        int count = PointLedgerFormat.BLOCK_ROWS * 2 + 17;
+        for (int i = 0; i < count; i++) {
+            long userId = (i * 7919L) % 1000;
+            TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            long amount = i % 100 == 0 ? Long.MIN_VALUE + i : (type == TransactionType.USE ? -i : 1000L * i);
+            histories.add(new PointHistory(i % 50 == 0 ? i / 2 : i + 1, userId, amount, type, 1_700_000_000_000L + i - (i % 10) * 3));
+        }
+        histories.add(new PointHistory(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, TransactionType.USE, Long.MAX_VALUE));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointLedgerWriter writer = new PointLedgerWriter(out);
+        for (PointHistory pointHistory : histories) {
+            writer.write(pointHistory);
+        }
+        LedgerTrailer written = writer.finish(count);
+
+        List<PointHistory> read = new ArrayList<>();
+        LedgerTrailer trailer = new PointLedgerReader(new ByteArrayInputStream(out.toByteArray())).read(read::add);
+
+        // then
+        assertEquals(new LedgerTrailer(count, histories.size()), written);
+        assertEquals(written, trailer);
+        assertEquals(histories, read);
+        assertTrue(out.size() < histories.size() * 8L, "bytes: " + out.size());
+    }
+
+    @Test
+    @DisplayName("🟢내역이 없으면 헤더와 트레일러만 쓴다.")
+    public void testEmpty() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        LedgerTrailer written = new PointLedgerWriter(out).finish(42L);
+        List<PointHistory> read = new ArrayList<>();
+        LedgerTrailer trailer = new PointLedgerReader(new ByteArrayInputStream(out.toByteArray())).read(read::add);
+
+        // then
+        assertEquals(new LedgerTrailer(42L, 0L), written);
+        assertEquals(written, trailer);
+        assertEquals(List.of(), read);
+    }
+
+    @Test
+    @DisplayName("🔴트레일러 없이 끊긴 파일이나 원장 파일이 아닌 입력은 예외가 발생한다.")
+    public void testCorrupted() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PointLedgerWriter writer = new PointLedgerWriter(out);
+        for (int i = 1; i <= 10; i++) {
+            writer.write(new PointHistory(i, 1L, 100L, TransactionType.CHARGE, i));
+        }
+        writer.finish(10L);
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 2);
+
+        // when & then
+        assertThrows(EOFException.class,
+                () -> new PointLedgerReader(new ByteArrayInputStream(truncated)).read(pointHistory -> {}));
+        assertThrows(IOException.class,
+                () -> new PointLedgerReader(new ByteArrayInputStream("not a ledger".getBytes())).read(pointHistory -> {}));
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+
+/**
+ * 부하 테스트에서 호출하는 API 종류
+ */
+public enum LoadEndpoint {
+    CHARGE, USE, GET, HISTORY;
+
+    private static final String AMOUNT_BODY = "{\"amount\":1000}";
+
+    public HttpRequest request(String baseUrl, long userId) {
+        return switch (this) {
+            case CHARGE -> patch(baseUrl + "/point/" + userId + "/charge");
+            case USE -> patch(baseUrl + "/point/" + userId + "/use");
+            case GET -> HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId)).GET().build();
+            case HISTORY -> HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId + "/histories")).GET().build();
+        };
+    }
+
+    private static HttpRequest patch(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(AMOUNT_BODY))
+                .build();
+    }
+}
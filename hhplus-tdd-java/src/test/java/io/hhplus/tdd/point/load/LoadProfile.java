@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point.load;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트 설정
+ * - ratePerSecond : 초당 요청 수 (open-loop : 응답을 기다리지 않고 정해진 시각에 요청을 보냅니다.)
+ * - warmupSeconds 동안의 요청은 결과에 포함하지 않습니다.
+ * - mix : API 별 가중치 (ex. charge=2,use=2,get=5,history=1)
+ * - zipfExponent : 0 이면 모든 유저가 같은 확률, 클수록 소수의 유저(hot key)에 요청이 몰립니다.
+ */
+public record LoadProfile(
+        int ratePerSecond,
+        int warmupSeconds,
+        int durationSeconds,
+        int userCount,
+        double zipfExponent,
+        Map<LoadEndpoint, Integer> mix
+) {
+
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.getInteger("load.rate", 200),
+                Integer.getInteger("load.warmup-seconds", 2),
+                Integer.getInteger("load.duration-seconds", 10),
+                Integer.getInteger("load.users", 1000),
+                Double.parseDouble(System.getProperty("load.zipf-exponent", "1.1")),
+                parseMix(System.getProperty("load.mix", "charge=2,use=2,get=5,history=1"))
+        );
+    }
+
+    public static Map<LoadEndpoint, Integer> parseMix(String mix) {
+        Map<LoadEndpoint, Integer> weights = new EnumMap<>(LoadEndpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid load mix entry: " + entry);
+            }
+            weights.put(LoadEndpoint.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    // 가중치에 따라 API 를 고릅니다.
+    public LoadEndpoint[] endpointTable() {
+        return mix.entrySet().stream()
+                .flatMap(entry -> Arrays.stream(new LoadEndpoint[entry.getValue()]).map(ignored -> entry.getKey()))
+                .toArray(LoadEndpoint[]::new);
+    }
+
+    // 누적 확률 테이블을 만들어두고 이진 탐색으로 유저를 고릅니다. (1번 유저가 가장 자주 선택됩니다.)
+    public UserSampler userSampler() {
+        double[] cumulative = new double[userCount];
+        double sum = 0;
+        for (int rank = 1; rank <= userCount; rank++) {
+            sum += 1.0 / Math.pow(rank, zipfExponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < userCount; i++) {
+            cumulative[i] /= sum;
+        }
+
+        return random -> {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return Math.min(index, userCount - 1) + 1L;
+        };
+    }
+
+    @FunctionalInterface
+    public interface UserSampler {
+        long next(SplittableRandom random);
+    }
+}
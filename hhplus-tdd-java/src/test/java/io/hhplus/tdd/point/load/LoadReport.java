@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 결과 (지연 시간 단위는 ms)
+ * - statuses 의 -1 은 응답을 받지 못한 요청(연결 실패 등)입니다.
+ */
+public record LoadReport(
+        LoadProfile profile,
+        long finishedAtMillis,
+        long elapsedMillis,
+        Map<LoadEndpoint, EndpointResult> endpoints
+) {
+
+    public record EndpointResult(
+            long count,
+            double throughputPerSecond,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            Map<Integer, Long> statuses
+    ) {
+
+        static EndpointResult of(Histogram histogram, Map<Integer, LongAdder> statuses, long elapsedNanos) {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statuses.forEach((status, count) -> counts.put(status, count.sum()));
+            return new EndpointResult(
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() * 1e9 / elapsedNanos,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    counts
+            );
+        }
+
+        // 5xx 또는 응답을 받지 못한 요청 수 (4xx 는 잔액 부족 등 정상적인 거절입니다.)
+        public long serverErrors() {
+            return statuses.entrySet().stream()
+                    .filter(entry -> entry.getKey() < 0 || entry.getKey() >= 500)
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    // 실행마다 파일을 따로 만들어 결과를 비교할 수 있게 합니다.
+    public Path writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("point-load-" + finishedAtMillis + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+        return file;
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%-8s %8s %10s %9s %9s %9s %9s  %s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "statuses"));
+        endpoints.forEach((endpoint, result) -> table.append(String.format("%-8s %8d %10.1f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                endpoint, result.count(), result.throughputPerSecond(),
+                result.p50Millis(), result.p99Millis(), result.p999Millis(), result.maxMillis(), result.statuses())));
+        return table.toString();
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.load;
+
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 정해진 시각마다 요청을 보내고(open-loop) API 별 지연 시간을 HdrHistogram 에 기록합니다.
+ * - 지연 시간은 요청을 보내야 했던 시각부터 응답을 받은 시각까지입니다.
+ *   서버가 밀려 요청이 늦게 나가도 그만큼 지연으로 잡히므로 coordinated omission 이 생기지 않습니다.
+ * - 응답을 기다리지 않으므로 서버가 느려져도 보내는 속도는 줄지 않습니다.
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long RESPONSE_TIMEOUT_SECONDS = 60;
+
+    private final LoadProfile profile;
+    private final String baseUrl;
+
+    public OpenLoopLoadGenerator(LoadProfile profile, String baseUrl) {
+        this.profile = profile;
+        this.baseUrl = baseUrl;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        Map<LoadEndpoint, EndpointRecorder> recorders = new EnumMap<>(LoadEndpoint.class);
+        for (LoadEndpoint endpoint : profile.mix().keySet()) {
+            recorders.put(endpoint, new EndpointRecorder());
+        }
+        LoadEndpoint[] endpoints = profile.endpointTable();
+        LoadProfile.UserSampler users = profile.userSampler();
+        SplittableRandom random = new SplittableRandom(42);
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.ratePerSecond();
+        long warmupRequests = (long) profile.ratePerSecond() * profile.warmupSeconds();
+        long totalRequests = warmupRequests + (long) profile.ratePerSecond() * profile.durationSeconds();
+        CountDownLatch completed = new CountDownLatch(Math.toIntExact(totalRequests));
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient httpClient = HttpClient.newBuilder().executor(clients).build();
+
+            long start = System.nanoTime();
+            long measureStart = start + warmupRequests * intervalNanos;
+            for (long i = 0; i < totalRequests; i++) {
+                long intendedNanos = start + i * intervalNanos;
+                long waitNanos = intendedNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+
+                LoadEndpoint endpoint = endpoints[random.nextInt(endpoints.length)];
+                EndpointRecorder recorder = i < warmupRequests ? null : recorders.get(endpoint);
+                httpClient.sendAsync(endpoint.request(baseUrl, users.next(random)), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> {
+                            if (recorder != null) {
+                                recorder.record(System.nanoTime() - intendedNanos, response == null ? -1 : response.statusCode());
+                            }
+                            completed.countDown();
+                        });
+            }
+
+            if (!completed.await(RESPONSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Responses did not complete within " + RESPONSE_TIMEOUT_SECONDS + " seconds.");
+            }
+            long elapsedNanos = System.nanoTime() - measureStart;
+
+            Map<LoadEndpoint, LoadReport.EndpointResult> results = new EnumMap<>(LoadEndpoint.class);
+            recorders.forEach((endpoint, recorder) -> results.put(endpoint, recorder.result(elapsedNanos)));
+            return new LoadReport(profile, System.currentTimeMillis(), elapsedNanos / 1_000_000, results);
+        }
+    }
+
+    // Recorder 는 여러 스레드에서 동시에 기록할 수 있습니다.
+    private static class EndpointRecorder {
+        private final Recorder latency = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        void record(long latencyNanos, int status) {
+            latency.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+
+        LoadReport.EndpointResult result(long elapsedNanos) {
+            return LoadReport.EndpointResult.of(latency.getIntervalHistogram(), statuses, elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.load;
+
+import io.hhplus.tdd.TddApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 랜덤 포트로 앱을 띄우고 충전/사용/조회/내역 요청을 섞어 보낸 뒤, API 별 지연 시간과 처리량을 파일로 남깁니다.
+ * 설정은 -Pload.* 로 바꿀 수 있습니다. (LoadProfile 참고)
+ * ex) ./gradlew loadTest --tests '*PointLoadTest' -Pload.rate=2000 -Pload.zipf-exponent=0 -Pload.app-args="--point.concurrency.mode=sharded"
+ */
+@Tag("load")
+public class PointLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLoadTest.class);
+
+    @Test
+    @DisplayName("🟢정해진 속도로 요청을 섞어 보내고 API 별 p50/p99/p999 와 처리량을 기록한다.")
+    public void testMixedLoad() throws Exception {
+        // given
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class)
+                .run(appArgs());
+
+        try {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+            // when
+            LoadReport report = new OpenLoopLoadGenerator(profile, "http://localhost:" + port).run();
+            Path file = report.writeTo(Path.of(System.getProperty("load.output-dir", "build/load-results")));
+
+            log.info("load report: {}\n{}", file.toAbsolutePath(), report.toTable());
+
+            // then
+            report.endpoints().forEach((endpoint, result) -> {
+                assertTrue(result.count() > 0, endpoint + " was never called.");
+                assertEquals(0, result.serverErrors(), endpoint + " returned server errors: " + result.statuses());
+            });
+        }
+        finally {
+            context.close();
+        }
+    }
+
+    private static String[] appArgs() {
+        String extra = System.getProperty("load.app-args", "").trim();
+        String[] args = extra.isEmpty() ? new String[0] : extra.split("\\s+");
+        String[] all = new String[args.length + 1];
+        all[0] = "--server.port=0";
+        System.arraycopy(args, 0, all, 1, args.length);
+        return all;
+    }
+}
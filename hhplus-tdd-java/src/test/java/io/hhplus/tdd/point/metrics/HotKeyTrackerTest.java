@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.lock.UserLockManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotKeyTrackerTest {
+
+    @Test
+    @DisplayName("🟢많은 유저 중 락 대기가 긴 유저만 capacity 안에 남고, 가중치가 큰 순서로 조회된다.")
+    public void testTopKeys() {
+        // given
+        HotKeyTracker tracker = new HotKeyTracker(3);
+
+        // when: 1000명이 한 번씩, 7번 유저는 100번 1ms 씩, 8번 유저는 100번 대기 없이
+        for (long userId = 1; userId <= 1000; userId++) {
+            tracker.onAcquired(userId, "CHARGE", 0);
+        }
+        for (int i = 0; i < 100; i++) {
+            tracker.onAcquired(7L, "CHARGE", TimeUnit.MILLISECONDS.toNanos(1));
+            tracker.onAcquired(8L, "USE", 0);
+        }
+        List<HotKeyTracker.HotKeySnapshot> top = tracker.top(10);
+
+        // then
+        assertEquals(3, top.size());
+        assertEquals(7L, top.get(0).userId());
+        assertEquals(8L, top.get(1).userId());
+        assertTrue(top.get(0).operations() >= 100);
+        assertEquals(1.0, top.get(0).maxWaitMillis());
+        assertTrue(top.get(0).p99WaitMillis() >= 1.0 && top.get(0).p99WaitMillis() < 2.1);
+    }
+
+    @Test
+    @DisplayName("🟢UserLockManager 에서 락을 기다린 유저가 top 에 오르고, 초기화하면 비워진다.")
+    public void testLockContention() throws Exception {
+        // given: 5번 유저의 락을 잡고 있는 동안 다른 요청이 기다린다.
+        HotKeyTracker tracker = new HotKeyTracker(10);
+        UserLockManager userLockManager = new UserLockManager(List.of(tracker));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> holder = CompletableFuture.supplyAsync(() -> userLockManager.executeWithLock(5L, "CHARGE", () -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<Object> waiter = CompletableFuture.supplyAsync(() -> userLockManager.executeWithLock(5L, "USE", () -> null));
+        TimeUnit.MILLISECONDS.sleep(50);
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        waiter.get(5, TimeUnit.SECONDS);
+        userLockManager.executeWithLock(6L, "CHARGE", () -> null);
+
+        // then
+        HotKeyTracker.HotKeySnapshot hottest = tracker.top(1).get(0);
+        assertEquals(5L, hottest.userId());
+        assertEquals(2, hottest.operations());
+        assertTrue(hottest.maxWaitMillis() >= 40, "max wait " + hottest.maxWaitMillis());
+
+        tracker.reset();
+        assertTrue(tracker.top(10).isEmpty());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.Exception.InsufficientPointsException;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointLockMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UserLockManager userLockManager = new UserLockManager(List.of(new PointLockMetrics(registry)));
+
+    @Test
+    @DisplayName("🟢연산 종류와 결과별로 처리 건수와 락 보유 시간을 기록한다.")
+    public void testOutcomeCounters() {
+        // when
+        userLockManager.executeWithLock(1L, "CHARGE", () -> 1000L);
+        assertThrows(InsufficientPointsException.class, () -> userLockManager.executeWithLock(1L, "USE", () -> {
+            throw new InsufficientPointsException("User doesn't have enough charging points.");
+        }));
+
+        // then
+        assertEquals(1.0, counter("CHARGE", "success"));
+        assertEquals(1.0, counter("USE", "insufficient_points"));
+        assertEquals(0.0, counter("USE", "success"));
+        assertEquals(1, registry.get("point.lock.hold").tag("operation", "CHARGE").timer().count());
+        assertEquals(0.0, registry.get("point.operations.in-flight").tag("type", "USE").gauge().value());
+    }
+
+    @Test
+    @DisplayName("🟢락을 기다리는 연산은 in-flight 에 포함되고, 대기 시간이 기록된다.")
+    public void testLockWait() throws Exception {
+        // given: 첫 번째 연산이 락을 잡고 멈춰 있는다.
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> holder = CompletableFuture.supplyAsync(() -> userLockManager.executeWithLock(1L, "CHARGE", () -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<Object> waiter = CompletableFuture.supplyAsync(() -> userLockManager.executeWithLock(1L, "CHARGE", () -> null));
+        TimeUnit.MILLISECONDS.sleep(50);
+        double inFlight = registry.get("point.operations.in-flight").tag("type", "CHARGE").gauge().value();
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        waiter.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(2.0, inFlight);
+        assertTrue(registry.get("point.lock.wait").tag("operation", "CHARGE").timer().max(TimeUnit.MILLISECONDS) >= 40);
+        assertEquals(2.0, counter("CHARGE", "success"));
+    }
+
+    private double counter(String type, String outcome) {
+        return registry.get("point.operations").tag("type", type).tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
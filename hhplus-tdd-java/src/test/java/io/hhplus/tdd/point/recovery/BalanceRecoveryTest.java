@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point.recovery;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceRecoveryTest {
+
+    private static final int SLOTS_PER_CHUNK = 1_024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("🟢재시작하면 마지막 스냅샷 이후의 내역만 다시 적용해 잔액을 복구한다.")
+    public void testRecoverFromSnapshotAndTail() throws Exception {
+        // given: 스냅샷을 남긴 뒤 내역이 더 쌓인 상태로 종료
+        Path logPath = directory.resolve("point-history.log");
+        BalanceSnapshotFile snapshotFile = new BalanceSnapshotFile(directory.resolve("point-balance.snapshot"));
+        Map<Long, Long> expected = new HashMap<>();
+
+        try (MappedPointHistoryRepository historyLog = new MappedPointHistoryRepository(logPath, SLOTS_PER_CHUNK)) {
+            BalanceRecovery recovery = new BalanceRecovery(historyLog, snapshotFile, 4, 0);
+            insert(historyLog, expected, 0, 3_000);
+            assertEquals(3_000L, recovery.snapshot().lastHistoryId());
+
+            insert(historyLog, expected, 3_000, 5_000);
+        }
+
+        // when
+        try (MappedPointHistoryRepository historyLog = new MappedPointHistoryRepository(logPath, SLOTS_PER_CHUNK)) {
+            BalanceSnapshot recovered = BalanceRecovery.recover(historyLog, snapshotFile, 4);
+
+            // then
+            assertEquals(5_000L, recovered.lastHistoryId());
+            assertEquals(expected.size(), recovered.balances().size());
+            expected.forEach((userId, point) -> assertEquals(point, recovered.balances().get(userId).point()));
+            assertEquals(3_000L, snapshotFile.load().orElseThrow().lastHistoryId());
+        }
+    }
+
+    @Test
+    @DisplayName("🟢종료할 때 남긴 스냅샷은 모든 내역을 포함한다.")
+    public void testSnapshotOnClose() throws Exception {
+        // given
+        Path logPath = directory.resolve("point-history.log");
+        BalanceSnapshotFile snapshotFile = new BalanceSnapshotFile(directory.resolve("point-balance.snapshot"));
+        Map<Long, Long> expected = new HashMap<>();
+
+        try (MappedPointHistoryRepository historyLog = new MappedPointHistoryRepository(logPath, SLOTS_PER_CHUNK)) {
+            BalanceRecovery recovery = new BalanceRecovery(historyLog, snapshotFile, 1, 0);
+            insert(historyLog, expected, 0, 100);
+
+            // when
+            recovery.close();
+        }
+
+        // then
+        BalanceSnapshot snapshot = snapshotFile.load().orElseThrow();
+        assertEquals(100L, snapshot.lastHistoryId());
+        expected.forEach((userId, point) -> assertEquals(point, snapshot.balances().get(userId).point()));
+    }
+
+    @Test
+    @DisplayName("🔴스냅샷 파일이 손상되었으면 무시하고 내역 전체를 다시 적용한다.")
+    public void testCorruptedSnapshotIsIgnored() throws Exception {
+        // given
+        Path logPath = directory.resolve("point-history.log");
+        Path snapshotPath = directory.resolve("point-balance.snapshot");
+        BalanceSnapshotFile snapshotFile = new BalanceSnapshotFile(snapshotPath);
+        snapshotFile.save(new BalanceSnapshot(10L, Map.of(1L, new UserPoint(1L, 999_999L, 0L))));
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        bytes[20] ^= 0x7f;
+        Files.write(snapshotPath, bytes);
+
+        Map<Long, Long> expected = new HashMap<>();
+        try (MappedPointHistoryRepository historyLog = new MappedPointHistoryRepository(logPath, SLOTS_PER_CHUNK)) {
+            insert(historyLog, expected, 0, 50);
+
+            // when
+            BalanceSnapshot recovered = BalanceRecovery.recover(historyLog, snapshotFile, 2);
+
+            // then
+            assertTrue(snapshotFile.load().isEmpty());
+            assertEquals(50L, recovered.lastHistoryId());
+            expected.forEach((userId, point) -> assertEquals(point, recovered.balances().get(userId).point()));
+        }
+    }
+
+    @Test
+    @DisplayName("🟢남은 내역이 많으면 구간으로 나눠 전용 스레드에서 합산해도 같은 잔액이 나온다.")
+    public void testParallelReplay() throws Exception {
+        // given: 구간을 나눌 만큼(MIN_RANGE 의 3배) 쌓인 내역
+        Path logPath = directory.resolve("point-history.log");
+        Map<Long, Long> expected = new HashMap<>();
+        try (MappedPointHistoryRepository historyLog = new MappedPointHistoryRepository(logPath, 64 * SLOTS_PER_CHUNK)) {
+            insert(historyLog, expected, 0, 300_000);
+
+            // when
+            BalanceSnapshot parallel = HistoryReplayer.replay(BalanceSnapshot.empty(), historyLog, 4);
+            BalanceSnapshot sequential = HistoryReplayer.replay(BalanceSnapshot.empty(), historyLog, 1);
+
+            // then
+            assertEquals(300_000L, parallel.lastHistoryId());
+            assertEquals(sequential.balances(), parallel.balances());
+            expected.forEach((userId, point) -> assertEquals(point, parallel.balances().get(userId).point()));
+        }
+    }
+
+    // 유저 7명에게 충전 두 번, 사용 한 번을 번갈아 기록합니다.
+    private static void insert(MappedPointHistoryRepository historyLog, Map<Long, Long> expected, int from, int to) {
+        for (int i = from; i < to; i++) {
+            long userId = i % 7;
+            long amount = 1000L + i;
+            TransactionType type = i % 3 == 2 ? TransactionType.USE : TransactionType.CHARGE;
+            historyLog.insert(userId, amount, type, i);
+            expected.merge(userId, type == TransactionType.CHARGE ? amount : -amount, Long::sum);
+        }
+    }
+}
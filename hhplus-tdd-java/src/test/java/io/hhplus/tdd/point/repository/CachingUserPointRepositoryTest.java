@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingUserPointRepositoryTest {
+
+    @Test
+    @DisplayName("🟢두 번째 조회부터는 캐시에서 응답한다.")
+    public void testReadThrough() {
+        // given
+        CountingUserPointRepository delegate = new CountingUserPointRepository();
+        delegate.insertOrUpdate(1L, 1000L);
+        CachingUserPointRepository repository = new CachingUserPointRepository(delegate, 100);
+
+        // when
+        repository.selectById(1L);
+        UserPoint result = repository.selectById(1L);
+
+        // then
+        assertEquals(1000L, result.point());
+        assertEquals(1, delegate.selects.get());
+        assertEquals(1, repository.hitCount());
+        assertEquals(1, repository.missCount());
+    }
+
+    @Test
+    @DisplayName("🟢저장한 값은 delegate 를 다시 읽지 않고 캐시에서 조회된다.")
+    public void testWriteThrough() {
+        // given
+        CountingUserPointRepository delegate = new CountingUserPointRepository();
+        CachingUserPointRepository repository = new CachingUserPointRepository(delegate, 100);
+
+        // when
+        UserPoint saved = repository.insertOrUpdate(1L, 2000L);
+
+        // then
+        assertEquals(saved, repository.selectById(1L));
+        assertEquals(0, delegate.selects.get());
+    }
+
+    @Test
+    @DisplayName("🟢최대 크기를 넘으면 오래 사용되지 않은 유저부터 제거된다.")
+    public void testEviction() {
+        // given
+        CachingUserPointRepository repository = new CachingUserPointRepository(new CountingUserPointRepository(), 16);
+
+        // when: segment 당 1명만 들어가므로 같은 segment 의 유저 두 명을 넣는다.
+        repository.insertOrUpdate(1L, 1000L);
+        repository.insertOrUpdate(17L, 1000L);
+
+        // then
+        assertEquals(1, repository.evictionCount());
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    @DisplayName("🟢조회 중에 쓰기가 끝나면 읽어온 오래된 값은 캐시에 넣지 않는다.")
+    public void testStaleLoadIsNotCached() throws Exception {
+        // given: 첫 조회는 delegate 에서 멈춰 있는다.
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountingUserPointRepository delegate = new CountingUserPointRepository() {
+            @Override
+            public UserPoint selectById(Long id) {
+                UserPoint stale = super.selectById(id);
+                loading.countDown();
+                try {
+                    release.await();
+                }
+                catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return stale;
+            }
+        };
+        CachingUserPointRepository repository = new CachingUserPointRepository(delegate, 100);
+        CompletableFuture<UserPoint> reader = CompletableFuture.supplyAsync(() -> repository.selectById(1L));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // when: 그 사이 쓰기가 완료된다.
+        UserPoint saved = repository.insertOrUpdate(1L, 5000L);
+        release.countDown();
+        reader.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(saved, repository.selectById(1L));
+    }
+
+    private static class CountingUserPointRepository implements UserPointRepository {
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+        private final AtomicInteger selects = new AtomicInteger();
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            selects.incrementAndGet();
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+    }
+}
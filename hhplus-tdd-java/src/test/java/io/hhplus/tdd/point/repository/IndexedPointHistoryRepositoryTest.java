@@ -0,0 +1,148 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedPointHistoryRepositoryTest {
+
+    @Test
+    @DisplayName("🟢유저별 내역을 저장 순서대로 조회한다.")
+    public void testSelectAllByUserId() {
+        // given
+        IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(new SequencePointHistoryRepository());
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            repository.insert(i % 3, 1000L + i, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+        }
+
+        // then
+        List<PointHistory> histories = repository.selectAllByUserId(1L);
+        assertEquals(33, histories.size());
+        assertEquals(new PointHistory(2L, 1L, 1001L, TransactionType.USE, 1L), histories.get(0));
+        assertTrue(histories.stream().allMatch(pointHistory -> pointHistory.userId() == 1L));
+        assertEquals(List.of(), repository.selectAllByUserId(99L));
+    }
+
+    @Test
+    @DisplayName("🟢cursor 다음 내역부터 종류별로 limit 개씩 조회한다.")
+    public void testSelectByUserIdAfter() {
+        // given: 유저 1의 내역 ID 는 1, 3, 5, ... 이고 CHARGE 와 USE 가 번갈아 저장된다.
+        IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(new SequencePointHistoryRepository());
+        for (int i = 0; i < 20; i++) {
+            repository.insert(i % 2 == 0 ? 1L : 2L, 1000L, i % 4 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+        }
+
+        // when
+        List<PointHistory> first = repository.selectByUserIdAfter(1L, 0L, null, 3);
+        List<PointHistory> next = repository.selectByUserIdAfter(1L, 4L, null, 3);
+        List<PointHistory> charges = repository.selectByUserIdAfter(1L, 1L, TransactionType.CHARGE, 10);
+
+        // then
+        assertEquals(List.of(1L, 3L, 5L), first.stream().map(PointHistory::id).toList());
+        assertEquals(List.of(5L, 7L, 9L), next.stream().map(PointHistory::id).toList());
+        assertEquals(List.of(5L, 9L, 13L, 17L), charges.stream().map(PointHistory::id).toList());
+        assertEquals(List.of(), repository.selectByUserIdAfter(1L, 19L, null, 10));
+        assertEquals(List.of(), repository.selectByUserIdAfter(99L, 0L, null, 10));
+    }
+
+    @Test
+    @DisplayName("🟢updateMillis 가 from 이상 to 미만인 내역만 시간 순서대로 조회하고, 시계가 되돌아간 뒤에도 결과가 같다.")
+    public void testSelectByUserIdBetween() {
+        // given: 유저 1의 내역 시각은 0, 10, 20, ... 90 이고 20 은 두 건이다.
+        IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(new SequencePointHistoryRepository());
+        for (int i = 0; i < 10; i++) {
+            repository.insert(1L, 1000L + i, TransactionType.CHARGE, i * 10L);
+            repository.insert(2L, 1000L, TransactionType.USE, i * 10L);
+        }
+        repository.insert(1L, 5000L, TransactionType.USE, 20L);
+
+        // when
+        List<PointHistory> window = repository.selectByUserIdBetween(1L, 20L, 50L);
+
+        // then
+        assertEquals(List.of(20L, 20L, 30L, 40L), window.stream().map(PointHistory::updateMillis).toList());
+        assertEquals(List.of(5L, 21L, 7L, 9L), window.stream().map(PointHistory::id).toList());
+        assertEquals(List.of(), repository.selectByUserIdBetween(1L, 91L, 100L));
+        assertEquals(List.of(), repository.selectByUserIdBetween(99L, 0L, Long.MAX_VALUE));
+        assertEquals(11, repository.selectByUserIdBetween(1L, 0L, Long.MAX_VALUE).size());
+    }
+
+    @Test
+    @DisplayName("🟢ID 가 순서를 바꿔 기록되면 lastId 는 빠진 ID 가 기록될 때까지 올라가지 않는다.")
+    public void testLastIdIsContiguous() {
+        // given: 동시에 insert 한 것처럼 delegate 가 1, 3, 2, 5, 4 순서로 ID 를 돌려준다.
+        Iterator<Long> ids = List.of(1L, 3L, 2L, 5L, 4L).iterator();
+        IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(new SequencePointHistoryRepository() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                return new PointHistory(ids.next(), userId, amount, type, updateMillis);
+            }
+        });
+
+        // when
+        List<Long> lastIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            repository.insert(i % 2, 1000L, TransactionType.CHARGE, i);
+            lastIds.add(repository.lastId());
+        }
+
+        // then
+        assertEquals(List.of(1L, 1L, 3L, 3L, 5L), lastIds);
+        List<Long> scanned = new ArrayList<>();
+        repository.forEach(0L, repository.lastId(), pointHistory -> scanned.add(pointHistory.id()));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), scanned.stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("🟢저장 중에 조회해도 앞부분이 빠지거나 섞이지 않는다.")
+    public void testConcurrentReadWhileAppending() {
+        // given
+        IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(new SequencePointHistoryRepository());
+        int count = 10_000;
+
+        // when
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < count; i++) {
+                repository.insert(1L, i, TransactionType.CHARGE, i);
+            }
+        });
+        List<Integer> observedSizes = new ArrayList<>();
+        while (!writer.isDone()) {
+            List<PointHistory> histories = repository.selectAllByUserId(1L);
+            for (int i = 0; i < histories.size(); i++) {
+                assertEquals(i, histories.get(i).amount());
+            }
+            observedSizes.add(histories.size());
+        }
+        writer.join();
+
+        // then
+        assertEquals(count, repository.selectAllByUserId(1L).size());
+        assertFalse(observedSizes.isEmpty());
+    }
+
+    private static class SequencePointHistoryRepository implements PointHistoryRepository {
+        private final AtomicLong cursor = new AtomicLong(1);
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedPointHistoryRepositoryTest {
+
+    private static final int SLOTS_PER_CHUNK = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("🟢chunk 경계를 넘어 저장해도 유저별 내역을 저장 순서대로 조회한다.")
+    public void testInsertAndSelect() throws Exception {
+        // given
+        Path path = directory.resolve("point-history.log");
+
+        try (MappedPointHistoryRepository repository = new MappedPointHistoryRepository(path, SLOTS_PER_CHUNK)) {
+            // when
+            for (int i = 0; i < 10; i++) {
+                repository.insert(i % 2, 1000L + i, i % 4 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+            }
+
+            // then
+            List<PointHistory> histories = repository.selectAllByUserId(1L);
+            assertEquals(List.of(2L, 4L, 6L, 8L, 10L), histories.stream().map(PointHistory::id).toList());
+            assertEquals(new PointHistory(4L, 1L, 1003L, TransactionType.USE, 3L), histories.get(1));
+            assertEquals(List.of(5L, 9L), repository.selectByUserIdAfter(0L, 1L, TransactionType.CHARGE, 10)
+                    .stream().map(PointHistory::id).toList());
+            assertEquals(List.of(), repository.selectAllByUserId(99L));
+            assertEquals(3L * SLOTS_PER_CHUNK * MappedPointHistoryRepository.SLOT_SIZE, Files.size(path));
+        }
+    }
+
+    @Test
+    @DisplayName("🟢기간 조회는 updateMillis 로 시작 위치를 찾아 to 전까지 조회하고, 다시 열어도 결과가 같다.")
+    public void testSelectByUserIdBetween() throws Exception {
+        // given: 유저 1의 내역 시각은 100, 300, 500, ... 1900
+        Path path = directory.resolve("point-history.log");
+        try (MappedPointHistoryRepository repository = new MappedPointHistoryRepository(path, SLOTS_PER_CHUNK)) {
+            for (int i = 0; i < 20; i++) {
+                repository.insert(i % 2, 1000L, TransactionType.CHARGE, i * 100L);
+            }
+
+            // when & then
+            assertEquals(List.of(300L, 500L, 700L), repository.selectByUserIdBetween(1L, 250L, 800L)
+                    .stream().map(PointHistory::updateMillis).toList());
+            assertEquals(List.of(), repository.selectByUserIdBetween(1L, 2000L, 3000L));
+        }
+
+        try (MappedPointHistoryRepository reopened = new MappedPointHistoryRepository(path, SLOTS_PER_CHUNK)) {
+            reopened.insert(1L, 1000L, TransactionType.USE, 50L);  // 시계가 되돌아간 경우
+
+            assertEquals(List.of(50L, 100L, 300L), reopened.selectByUserIdBetween(1L, 0L, 301L)
+                    .stream().map(PointHistory::updateMillis).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("🟢다시 열면 기록된 내역과 마지막 ID 를 복구하고, 이어서 ID 를 부여한다.")
+    public void testRecoverAfterReopen() throws Exception {
+        // given
+        Path path = directory.resolve("point-history.log");
+        try (MappedPointHistoryRepository repository = new MappedPointHistoryRepository(path, SLOTS_PER_CHUNK)) {
+            for (int i = 0; i < 6; i++) {
+                repository.insert(1L, 1000L, TransactionType.CHARGE, i);
+            }
+        }
+
+        // when
+        try (MappedPointHistoryRepository reopened = new MappedPointHistoryRepository(path, SLOTS_PER_CHUNK)) {
+            PointHistory inserted = reopened.insert(1L, 500L, TransactionType.USE, 6L);
+
+            // then
+            assertEquals(7L, inserted.id());
+            assertEquals(7L, reopened.lastId());
+            List<PointHistory> histories = reopened.selectAllByUserId(1L);
+            assertEquals(7, histories.size());
+            assertEquals(new PointHistory(6L, 1L, 1000L, TransactionType.CHARGE, 5L), histories.get(5));
+        }
+    }
+
+    @Test
+    @DisplayName("🔴닫힌 뒤에는 insert 를 거부한다.")
+    public void testInsertAfterClose() throws Exception {
+        // given
+        MappedPointHistoryRepository repository = new MappedPointHistoryRepository(directory.resolve("point-history.log"), SLOTS_PER_CHUNK);
+
+        // when
+        repository.close();
+
+        // then
+        assertThrows(IllegalStateException.class, () -> repository.insert(1L, 1000L, TransactionType.CHARGE, 0L));
+    }
+
+    @Test
+    @DisplayName("🟢읽기 전용으로 열면 쓰고 있는 파일을 늘리지 않고 기록이 끝난 내역까지 읽는다.")
+    public void testOpenReadOnlyWhileWriting() throws Exception {
+        // given: 다른 인스턴스가 파일에 쓰고 있다.
+        Path path = directory.resolve("point-history.log");
+        try (MappedPointHistoryRepository writer = new MappedPointHistoryRepository(path, SLOTS_PER_CHUNK)) {
+            for (int i = 0; i < 6; i++) {
+                writer.insert(i % 2, 1000L + i, TransactionType.CHARGE, i);
+            }
+            long size = Files.size(path);
+
+            // when
+            try (MappedPointHistoryRepository reader = MappedPointHistoryRepository.openReadOnly(path, SLOTS_PER_CHUNK)) {
+                writer.insert(1L, 9000L, TransactionType.USE, 6L);
+
+                // then: 연 시점까지의 내역만 보이고, 쓰기는 거부한다.
+                assertEquals(6L, reader.lastId());
+                assertEquals(List.of(1L, 3L, 5L), reader.selectAllByUserId(0L).stream().map(PointHistory::id).toList());
+                assertThrows(IllegalStateException.class, () -> reader.insert(1L, 1000L, TransactionType.CHARGE, 0L));
+            }
+            assertEquals(size, Files.size(path));
+            assertEquals(7L, writer.lastId());
+        }
+    }
+
+    @Test
+    @DisplayName("🔴읽기 전용으로 열 때 파일이 없으면 만들지 않고 실패한다.")
+    public void testOpenReadOnlyMissingFile() {
+        // given
+        Path path = directory.resolve("missing/point-history.log");
+
+        // when & then
+        assertThrows(NoSuchFileException.class, () -> MappedPointHistoryRepository.openReadOnly(path));
+        assertFalse(Files.exists(path));
+        assertFalse(Files.exists(path.getParent()));
+    }
+}
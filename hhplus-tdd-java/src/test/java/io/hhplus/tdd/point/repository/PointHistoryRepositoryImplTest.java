@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointHistoryRepositoryImplTest {
+
+    private static final int USERS = 24;
+
+    @Test
+    @DisplayName("🟢여러 유저의 내역을 동시에 저장해도 ID 가 겹치지 않고 모두 남는다.")
+    public void testConcurrentInsertsGetDistinctIds() {
+        // given
+        PointHistoryRepositoryImpl repository = new PointHistoryRepositoryImpl();
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+
+        // when
+        List<CompletableFuture<PointHistory>> futures = new ArrayList<>();
+        try {
+            for (long id = 1; id <= USERS; id++) {
+                long userId = id;
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> repository.insert(userId, 1000L, TransactionType.CHARGE, System.currentTimeMillis()), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        List<Long> ids = futures.stream().map(future -> future.join().id()).sorted().toList();
+        assertEquals(LongStream.rangeClosed(1, USERS).boxed().toList(), ids);
+        for (long id = 1; id <= USERS; id++) {
+            assertEquals(1, repository.selectAllByUserId(id).size());
+        }
+    }
+
+    @Test
+    @DisplayName("🟢같은 테이블에 나눠 담긴 유저들의 내역도 저장소 ID 로 조회된다.")
+    public void testSelectReturnsRepositoryIds() {
+        // given: STRIPES 만큼 떨어진 유저는 같은 테이블에 저장된다.
+        PointHistoryRepositoryImpl repository = new PointHistoryRepositoryImpl();
+        long other = 1L + PointHistoryRepositoryImpl.STRIPES;
+
+        // when
+        repository.insert(2L, 1000L, TransactionType.CHARGE, 1L);
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 2L);
+        repository.insert(other, 2000L, TransactionType.CHARGE, 3L);
+        repository.insert(1L, 500L, TransactionType.USE, 4L);
+
+        // then
+        assertEquals(List.of(2L, 4L), repository.selectAllByUserId(1L).stream().map(PointHistory::id).toList());
+        assertEquals(List.of(3L), repository.selectAllByUserId(other).stream().map(PointHistory::id).toList());
+        assertEquals(TransactionType.USE, repository.selectAllByUserId(1L).get(1).type());
+    }
+}
@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveUserPointRepositoryTest {
+
+    @Test
+    @DisplayName("🟢테이블이 여러 번 커져도 모든 유저의 마지막 잔액을 조회한다.")
+    public void testInsertAndSelectAcrossResize() {
+        // given
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+
+        // when
+        for (long id = -1_000; id < 20_000; id++) {
+            repository.insertOrUpdate(id, id * 10);
+        }
+        for (long id = 0; id < 20_000; id += 2) {
+            repository.insertOrUpdate(id, id * 10 + 1);
+        }
+
+        // then
+        assertEquals(21_000, repository.size());
+        for (long id = -1_000; id < 20_000; id++) {
+            long expected = id >= 0 && id % 2 == 0 ? id * 10 + 1 : id * 10;
+            assertEquals(expected, repository.selectById(id).point());
+        }
+        assertEquals(0L, repository.selectById(Long.valueOf(99_999L)).point());
+    }
+
+    @Test
+    @DisplayName("🟢쓰는 중에 락 없이 읽어도 다른 유저의 값이나 쓰다 만 값을 읽지 않는다.")
+    public void testConcurrentReadsSeeConsistentValues() throws Exception {
+        // given: point 를 백만으로 나눈 나머지가 항상 유저 ID 가 되도록 저장
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int round = 0; round < 20 && running.get(); round++) {
+                for (long id = 0; id < 5_000; id++) {
+                    long value = round * 1_000_000L + id;
+                    repository.insertOrUpdate(id, value);
+                }
+            }
+            running.set(false);
+        });
+
+        // when & then
+        while (running.get()) {
+            for (long id = 0; id < 5_000; id += 7) {
+                UserPoint userPoint = repository.selectById(id);
+                assertEquals(id, userPoint.id());
+                assertTrue(userPoint.point() == 0 || userPoint.point() % 1_000_000L == id, userPoint.toString());
+            }
+        }
+        writer.get(30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("🔴빈 칸 표시로 쓰는 ID 는 사용할 수 없다.")
+    public void testReservedId() {
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository();
+
+        assertThrows(IllegalArgumentException.class, () -> repository.insertOrUpdate(Long.MIN_VALUE, 1000L));
+    }
+
+    @Test
+    @DisplayName("🟢서비스가 쓰는 계층을 모두 거쳐도 long 으로 조회하면 박싱된 조회를 호출하지 않는다.")
+    public void testLongLookupThroughDecorators() {
+        // given: 박싱된 조회가 호출되면 실패하는 저장소를 metrics, 복구, 캐시 계층으로 감싼다.
+        PrimitiveUserPointRepository store = new PrimitiveUserPointRepository() {
+            @Override
+            public UserPoint selectById(Long id) {
+                throw new AssertionError("boxed lookup for user " + id);
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UserPointRepository repository = new MeteredUserPointRepository(
+                new CachingUserPointRepository(
+                        new RecoveredUserPointRepository(new MeteredUserPointRepository(store, registry, "table"), Map.of()),
+                        100),
+                registry, "repository");
+        store.insertOrUpdate(1_000L, 5000L);
+
+        // when
+        UserPoint userPoint = repository.selectById(1_000L);
+
+        // then
+        assertEquals(5000L, userPoint.point());
+        assertEquals(0L, repository.selectById(2_000L).point());
+    }
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecoveredUserPointRepositoryTest {
+
+    @Mock
+    private UserPointRepository delegate;
+
+    @Test
+    @DisplayName("🟢한 번도 변경되지 않은 유저는 복구한 잔액으로 응답하고, 변경된 뒤에는 delegate 에서 조회한다.")
+    public void testRecoveredUntilFirstWrite() {
+        // given
+        RecoveredUserPointRepository repository = new RecoveredUserPointRepository(delegate,
+                Map.of(1L, new UserPoint(1L, 5000L, 10L)));
+        when(delegate.insertOrUpdate(1L, 6000L)).thenReturn(new UserPoint(1L, 6000L, 20L));
+        when(delegate.selectById(1L)).thenReturn(new UserPoint(1L, 6000L, 20L));
+
+        // when
+        UserPoint before = repository.selectById(1L);
+        repository.insertOrUpdate(1L, 6000L);
+        UserPoint after = repository.selectById(1L);
+
+        // then
+        assertEquals(5000L, before.point());
+        assertEquals(6000L, after.point());
+        verify(delegate, times(1)).selectById(1L);
+    }
+}
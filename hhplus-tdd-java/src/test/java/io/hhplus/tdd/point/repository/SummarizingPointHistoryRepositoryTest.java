@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummarizingPointHistoryRepositoryTest {
+
+    @Test
+    @DisplayName("🟢합계가 없는 유저는 기존 내역으로 계산하고, 이후에는 저장할 때마다 갱신된 합계를 내역을 읽지 않고 돌려준다.")
+    public void testRebuildThenIncrement() {
+        // given: 합계 계층을 붙이기 전에 쌓인 내역
+        CountingPointHistoryRepository delegate = new CountingPointHistoryRepository();
+        delegate.insert(1L, 5000L, TransactionType.CHARGE, 0L);
+        delegate.insert(1L, 2000L, TransactionType.USE, 0L);
+        SummarizingPointHistoryRepository repository = new SummarizingPointHistoryRepository(delegate);
+
+        // when
+        PointSummary rebuilt = repository.summarize(1L);
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 0L);
+        repository.insert(1L, 500L, TransactionType.USE, 0L);
+        repository.insert(2L, 3000L, TransactionType.CHARGE, 0L);
+        PointSummary updated = repository.summarize(1L);
+        int selectCount = delegate.selectCount.get();
+
+        // then
+        assertEquals(new PointSummary(1L, 5000L, 2000L, 1L, 1L), rebuilt);
+        assertEquals(new PointSummary(1L, 6000L, 2500L, 2L, 2L), updated);
+        assertEquals(PointSummary.of(1L, delegate.selectAllByUserId(1L)), updated);
+        assertEquals(1, selectCount);  // 처음 재계산할 때만 내역을 읽습니다.
+    }
+
+    @Test
+    @DisplayName("🟢합계를 다시 계산하는 중에 저장된 내역도 한 번씩만 더해진다.")
+    public void testRebuildWhileInserting() throws Exception {
+        // given
+        CountingPointHistoryRepository delegate = new CountingPointHistoryRepository();
+        SummarizingPointHistoryRepository repository = new SummarizingPointHistoryRepository(delegate);
+
+        // when
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 2_000; i++) {
+                repository.insert(1L, 1000L, TransactionType.CHARGE, i);
+            }
+        });
+        while (!writer.isDone()) {
+            repository.summarize(1L);
+        }
+        writer.get(10, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(new PointSummary(1L, 2_000_000L, 0L, 2_000L, 0L), repository.summarize(1L));
+    }
+
+    private static class CountingPointHistoryRepository implements PointHistoryRepository {
+        private final List<PointHistory> table = new CopyOnWriteArrayList<>();
+        private final AtomicLong cursor = new AtomicLong(1);
+        private final AtomicInteger selectCount = new AtomicInteger();
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            selectCount.incrementAndGet();
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserPointRepositoryImplTest {
+
+    private static final int USERS = 24;
+
+    @Test
+    @DisplayName("🟢서로 다른 유저의 잔액을 동시에 저장해도 실제 테이블에 모두 남는다.")
+    public void testConcurrentInsertsForDistinctUsers() {
+        // given
+        UserPointRepositoryImpl repository = new UserPointRepositoryImpl();
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+
+        // when
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (long id = 1; id <= USERS; id++) {
+                long userId = id;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    repository.insertOrUpdate(userId, userId * 1000L);
+                    repository.selectById(userId + 1);
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        for (long id = 1; id <= USERS; id++) {
+            UserPoint userPoint = repository.selectById(id);
+            assertEquals(id * 1000L, userPoint.point());
+        }
+    }
+}
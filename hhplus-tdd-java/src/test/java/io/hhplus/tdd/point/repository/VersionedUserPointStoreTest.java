@@ -0,0 +1,160 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedUserPointStoreTest {
+
+    @Test
+    @DisplayName("🟢읽은 버전이 그대로이면 저장되고 버전이 올라간다.")
+    public void testCompareAndSet_Success() {
+        // given
+        InMemoryUserPointRepository delegate = new InMemoryUserPointRepository();
+        delegate.insertOrUpdate(1L, 1000L);
+        VersionedUserPointStore store = new VersionedUserPointStore(delegate);
+
+        // when
+        VersionedUserPointStore.Versioned current = store.read(1L);
+        VersionedUserPointStore.Versioned saved = store.compareAndSet(1L, current.version(), 3000L);
+
+        // then
+        assertEquals(0L, current.version());
+        assertEquals(1000L, current.userPoint().point());
+        assertEquals(1L, saved.version());
+        assertEquals(3000L, saved.userPoint().point());
+        assertEquals(3000L, delegate.selectById(1L).point());
+        assertEquals(saved, store.read(1L));
+    }
+
+    @Test
+    @DisplayName("🔴다른 요청이 먼저 저장했다면 이전 버전으로는 저장되지 않는다.")
+    public void testCompareAndSet_Conflict() {
+        // given
+        InMemoryUserPointRepository delegate = new InMemoryUserPointRepository();
+        VersionedUserPointStore store = new VersionedUserPointStore(delegate);
+        VersionedUserPointStore.Versioned stale = store.read(1L);
+        store.compareAndSet(1L, stale.version(), 2000L);
+
+        // when
+        VersionedUserPointStore.Versioned result = store.compareAndSet(1L, stale.version(), 5000L);
+
+        // then
+        assertNull(result);
+        assertEquals(2000L, store.read(1L).userPoint().point());
+        assertEquals(2000L, delegate.selectById(1L).point());
+    }
+
+    @Test
+    @DisplayName("🔴저장 중인 유저에 대한 저장은 기다리지 않고 바로 실패한다.")
+    public void testCompareAndSet_WhileWriting() {
+        // given: delegate 에 쓰는 도중 같은 버전으로 다시 저장을 시도한다.
+        VersionedUserPointStore[] store = new VersionedUserPointStore[1];
+        VersionedUserPointStore.Versioned[] nested = new VersionedUserPointStore.Versioned[1];
+        InMemoryUserPointRepository delegate = new InMemoryUserPointRepository() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                if (amount == 1000L) {
+                    nested[0] = store[0].compareAndSet(id, 0L, 9000L);
+                }
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        store[0] = new VersionedUserPointStore(delegate);
+        store[0].read(1L);
+
+        // when
+        VersionedUserPointStore.Versioned saved = store[0].compareAndSet(1L, 0L, 1000L);
+
+        // then
+        assertNull(nested[0]);
+        assertEquals(1000L, saved.userPoint().point());
+        assertEquals(1000L, delegate.selectById(1L).point());
+    }
+
+    @Test
+    @DisplayName("🟢afterWrite 는 버전이 오르기 전, 같은 유저의 다른 저장이 끼어들 수 없을 때 실행된다.")
+    public void testCompareAndSet_AfterWriteRunsBeforeCommit() {
+        // given
+        InMemoryUserPointRepository delegate = new InMemoryUserPointRepository();
+        VersionedUserPointStore store = new VersionedUserPointStore(delegate);
+        store.read(1L);
+        List<String> events = new ArrayList<>();
+
+        // when
+        VersionedUserPointStore.Versioned saved = store.compareAndSet(1L, 0L, 1000L, userPoint -> {
+            events.add("history " + userPoint.point());
+            events.add("nested " + store.compareAndSet(1L, 0L, 9000L));
+            events.add("version " + store.read(1L).version());
+        });
+
+        // then
+        assertEquals(List.of("history 1000", "nested null", "version 0"), events);
+        assertEquals(1L, saved.version());
+        assertEquals(saved, store.read(1L));
+    }
+
+    @Test
+    @DisplayName("🔴afterWrite 가 실패해도 이미 저장된 잔액으로 버전을 올리고 예외를 던진다.")
+    public void testCompareAndSet_AfterWriteFails() {
+        // given
+        InMemoryUserPointRepository delegate = new InMemoryUserPointRepository();
+        VersionedUserPointStore store = new VersionedUserPointStore(delegate);
+        store.read(1L);
+
+        // when
+        assertThrows(IllegalStateException.class, () -> store.compareAndSet(1L, 0L, 1000L, userPoint -> {
+            throw new IllegalStateException("history store is unavailable");
+        }));
+
+        // then
+        assertEquals(1L, store.read(1L).version());
+        assertEquals(1000L, store.read(1L).userPoint().point());
+    }
+
+    @Test
+    @DisplayName("🔴최대 개수를 넘어 지워진 유저는 다시 불러와도 지우기 전에 읽은 버전으로는 저장되지 않는다.")
+    public void testEvictedUserRejectsStaleVersion() {
+        // given: 최대 1명만 기억한다.
+        InMemoryUserPointRepository delegate = new InMemoryUserPointRepository();
+        VersionedUserPointStore store = new VersionedUserPointStore(delegate, 1);
+        VersionedUserPointStore.Versioned stale = store.read(1L);
+        store.compareAndSet(1L, stale.version(), 2000L);
+
+        // when: 다른 유저를 읽어 유저 1 이 지워진다.
+        store.read(2L);
+
+        // then
+        assertEquals(1, store.size());
+        assertNull(store.compareAndSet(1L, stale.version(), 5000L));
+        VersionedUserPointStore.Versioned reloaded = store.read(1L);
+        assertEquals(2000L, reloaded.userPoint().point());
+        assertTrue(reloaded.version() > stale.version() + 1, "reloaded version: " + reloaded.version());
+        assertNull(store.compareAndSet(1L, stale.version(), 5000L));
+        assertEquals(1, store.size());
+        assertEquals(7000L, store.compareAndSet(1L, reloaded.version(), 7000L).userPoint().point());
+    }
+
+    private static class InMemoryUserPointRepository implements UserPointRepository {
+        private final Map<Long, UserPoint> table = new HashMap<>();
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindPointHistoryRepositoryTest {
+
+    @Test
+    @DisplayName("🟢저장 대기 중인 내역도 유저별 순서대로 조회된다.")
+    public void testReadYourWrites() throws Exception {
+        // given: 저장을 막아둔 delegate
+        GatedPointHistoryRepository delegate = new GatedPointHistoryRepository();
+        WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(delegate, 100, 0L);
+
+        // when
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+        repository.insert(2L, 2000L, TransactionType.CHARGE, 2L);
+        repository.insert(1L, 500L, TransactionType.USE, 3L);
+
+        // then: 아직 저장되지 않았지만 조회된다.
+        List<PointHistory> histories = repository.selectAllByUserId(1L);
+        assertEquals(List.of(1L, 3L), histories.stream().map(PointHistory::id).toList());
+        assertEquals(TransactionType.USE, histories.get(1).type());
+
+        // when: 저장을 재개
+        delegate.open();
+        repository.flush();
+
+        // then: delegate 에 같은 ID, 같은 순서로 저장된다.
+        assertEquals(histories, delegate.selectAllByUserId(1L));
+        assertEquals(histories, repository.selectAllByUserId(1L));
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("🟢커서 조회 시 저장된 내역 뒤에 저장 대기 중인 내역이 이어진다.")
+    public void testSelectByUserIdAfterWithPending() throws Exception {
+        // given: 2개는 저장되어 있고 2개는 대기 중
+        GatedPointHistoryRepository delegate = new GatedPointHistoryRepository();
+        delegate.table.add(new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L));
+        delegate.table.add(new PointHistory(2L, 1L, 500L, TransactionType.USE, 2L));
+        delegate.cursor = 3;
+        WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(delegate, 100, 2L);
+        repository.insert(1L, 2000L, TransactionType.CHARGE, 3L);
+        repository.insert(1L, 700L, TransactionType.USE, 4L);
+
+        // when
+        List<PointHistory> page = repository.selectByUserIdAfter(1L, 1L, null, 2);
+        List<PointHistory> charges = repository.selectByUserIdAfter(1L, 0L, TransactionType.CHARGE, 10);
+
+        // then
+        assertEquals(List.of(2L, 3L), page.stream().map(PointHistory::id).toList());
+        assertEquals(List.of(1L, 3L), charges.stream().map(PointHistory::id).toList());
+        delegate.open();
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("🟢기간 조회 시 기간 안의 저장 대기 중인 내역도 함께 시간 순서대로 조회된다.")
+    public void testSelectByUserIdBetweenWithPending() throws Exception {
+        // given: 2개는 저장되어 있고 2개는 대기 중
+        GatedPointHistoryRepository delegate = new GatedPointHistoryRepository();
+        delegate.table.add(new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 10L));
+        delegate.table.add(new PointHistory(2L, 1L, 500L, TransactionType.USE, 20L));
+        delegate.cursor = 3;
+        WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(delegate, 100, 2L);
+        repository.insert(1L, 2000L, TransactionType.CHARGE, 30L);
+        repository.insert(1L, 700L, TransactionType.USE, 40L);
+
+        // when
+        List<PointHistory> window = repository.selectByUserIdBetween(1L, 15L, 40L);
+
+        // then
+        assertEquals(List.of(2L, 3L), window.stream().map(PointHistory::id).toList());
+        delegate.open();
+        repository.flush();
+        assertEquals(List.of(2L, 3L), repository.selectByUserIdBetween(1L, 15L, 40L).stream().map(PointHistory::id).toList());
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("🟢큐가 가득 차면 insert 가 대기한다.")
+    public void testBackpressure() throws Exception {
+        // given
+        GatedPointHistoryRepository delegate = new GatedPointHistoryRepository();
+        WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(delegate, 1, 0L);
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);  // drainer 가 꺼내서 delegate 에서 대기
+        waitUntilDrainerIsBlocked(delegate);
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 2L);  // 큐를 채움
+
+        // when
+        CompletableFuture<PointHistory> blocked = CompletableFuture.supplyAsync(
+                () -> repository.insert(1L, 1000L, TransactionType.CHARGE, 3L));
+
+        // then
+        assertThrows(TimeoutException.class, () -> blocked.get(200, TimeUnit.MILLISECONDS));
+        delegate.open();
+        assertEquals(3L, blocked.get(5, TimeUnit.SECONDS).id());
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("🟢close 시 남은 내역을 모두 저장하고, 이후 insert 는 거부한다.")
+    public void testFlushOnClose() {
+        // given
+        GatedPointHistoryRepository delegate = new GatedPointHistoryRepository();
+        delegate.open();
+        WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(delegate, 100, 0L);
+        for (int i = 0; i < 50; i++) {
+            repository.insert(1L, 1000L, TransactionType.CHARGE, i);
+        }
+
+        // when
+        repository.close();
+
+        // then
+        assertEquals(50, delegate.selectAllByUserId(1L).size());
+        assertThrows(IllegalStateException.class, () -> repository.insert(1L, 1000L, TransactionType.CHARGE, 0L));
+    }
+
+    @Test
+    @DisplayName("🟢저장이 잠시 실패하면 다시 시도해 ID 순서대로 모두 저장한다.")
+    public void testRetryTransientFailure() throws Exception {
+        // given: 처음 두 번의 저장은 실패한다.
+        FailingPointHistoryRepository delegate = new FailingPointHistoryRepository(2);
+        WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(delegate, 100, 0L);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            repository.insert(1L, 1000L, TransactionType.CHARGE, i);
+        }
+        repository.flush();
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), delegate.selectAllByUserId(1L).stream().map(PointHistory::id).toList());
+        assertFalse(repository.isFailed());
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("🔴다시 시도해도 저장에 실패하면 내역을 버리지 않고 멈추며, 이후 insert 와 flush 는 실패한다.")
+    public void testStopOnPersistentFailure() {
+        // given
+        FailingPointHistoryRepository delegate = new FailingPointHistoryRepository(Integer.MAX_VALUE);
+        WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(delegate, 100, 0L);
+
+        // when
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+
+        // then
+        assertThrows(IllegalStateException.class, repository::flush);
+        assertTrue(repository.isFailed());
+        assertThrows(IllegalStateException.class, () -> repository.insert(1L, 1000L, TransactionType.CHARGE, 2L));
+        assertEquals(List.of(1L), repository.selectAllByUserId(1L).stream().map(PointHistory::id).toList());
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("🔴delegate 가 다른 ID 를 부여하면 이후 ID 가 모두 어긋나므로 멈춘다.")
+    public void testStopOnIdMismatch() {
+        // given: delegate 에 이미 내역이 하나 있는데 lastPersistedId 를 0 으로 시작한다.
+        FailingPointHistoryRepository delegate = new FailingPointHistoryRepository(0);
+        delegate.insert(9L, 1000L, TransactionType.CHARGE, 0L);
+        WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(delegate, 100, 0L);
+
+        // when
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+
+        // then
+        assertThrows(IllegalStateException.class, repository::flush);
+        assertThrows(IllegalStateException.class, () -> repository.insert(1L, 1000L, TransactionType.CHARGE, 2L));
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("🔴큐가 가득 찬 채로 저장에 실패해 멈추면, 자리를 기다리던 insert 도 대기하지 않고 실패한다.")
+    public void testBlockedInsertFailsOnPersistentFailure() throws Exception {
+        // given: 저장을 막아두었다가 열면 계속 실패하는 delegate
+        GatedPointHistoryRepository delegate = new GatedPointHistoryRepository();
+        delegate.failWhenOpened = true;
+        WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(delegate, 1, 0L);
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);  // drainer 가 꺼내서 delegate 에서 대기
+        waitUntilDrainerIsBlocked(delegate);
+        repository.insert(2L, 1000L, TransactionType.CHARGE, 2L);  // 큐를 채움
+        CompletableFuture<PointHistory> blocked = CompletableFuture.supplyAsync(
+                () -> repository.insert(3L, 1000L, TransactionType.CHARGE, 3L));
+        assertThrows(TimeoutException.class, () -> blocked.get(200, TimeUnit.MILLISECONDS));
+
+        // when
+        delegate.open();
+
+        // then
+        ExecutionException failed = assertThrows(ExecutionException.class, () -> blocked.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failed.getCause());
+        assertTrue(repository.isFailed());
+        assertThrows(IllegalStateException.class, () -> repository.insert(3L, 1000L, TransactionType.CHARGE, 4L));
+        repository.close();
+    }
+
+    private void waitUntilDrainerIsBlocked(GatedPointHistoryRepository delegate) throws InterruptedException {
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+    }
+
+    private static class GatedPointHistoryRepository implements PointHistoryRepository {
+        private final List<PointHistory> table = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private long cursor = 1;
+        private volatile boolean failWhenOpened;
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            entered.countDown();
+            try {
+                gate.await();
+            }
+            catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            if (failWhenOpened) {
+                throw new IllegalStateException("table is unavailable");
+            }
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+
+        void open() {
+            gate.countDown();
+        }
+    }
+
+    private static class FailingPointHistoryRepository implements PointHistoryRepository {
+        private final List<PointHistory> table = new CopyOnWriteArrayList<>();
+        private int failuresLeft;
+        private long cursor = 1;
+
+        FailingPointHistoryRepository(int failures) {
+            this.failuresLeft = failures;
+        }
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("table is unavailable");
+            }
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
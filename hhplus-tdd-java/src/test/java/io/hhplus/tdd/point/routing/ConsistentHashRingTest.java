@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.routing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int USERS = 30_000;
+
+    @Test
+    @DisplayName("🟢연속된 유저 ID 도 노드마다 고르게 나뉘고, 노드 순서와 상관없이 같은 노드를 고른다.")
+    public void testOwnerDistribution() {
+        // given
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("node-1", "node-2", "node-3"), 128);
+        ConsistentHashRing reordered = ConsistentHashRing.of(List.of("node-3", "node-1", "node-2"), 128);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            counts.merge(ring.owner(userId), 1, Integer::sum);
+            assertEquals(ring.owner(userId), reordered.owner(userId));
+        }
+
+        // then
+        assertEquals(3, counts.size());
+        counts.values().forEach(count -> assertTrue(Math.abs(count - USERS / 3) < USERS / 3 * 0.2, "count: " + count));
+    }
+
+    @Test
+    @DisplayName("🟢노드를 더하면 새 노드로 가는 유저만 옮겨지고, 다시 빼면 원래대로 돌아온다.")
+    public void testAddNodeMovesOnlyToNewNode() {
+        // given
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("node-1", "node-2", "node-3"), 128);
+
+        // when
+        ConsistentHashRing added = ring.withNode("node-4");
+        ConsistentHashRing removed = added.withoutNode("node-4");
+
+        // then
+        int moved = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            String before = ring.owner(userId);
+            String after = added.owner(userId);
+            if (!before.equals(after)) {
+                assertEquals("node-4", after);
+                moved++;
+            }
+            assertEquals(before, removed.owner(userId));
+        }
+        assertTrue(moved > USERS / 4 * 0.8 && moved < USERS / 4 * 1.2, "moved: " + moved);
+        assertSame(added, added.withNode("node-4"));
+    }
+
+    @Test
+    @DisplayName("🔴노드가 없거나 가상 노드 수가 1보다 작으면 예외가 발생한다.")
+    public void testInvalidRing() {
+        assertThrows(IllegalArgumentException.class, () -> ConsistentHashRing.of(List.of(), 128));
+        assertThrows(IllegalArgumentException.class, () -> ConsistentHashRing.of(List.of("node-1"), 0));
+    }
+}
@@ -0,0 +1,216 @@
+package io.hhplus.tdd.point.routing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.TddApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 한 JVM 에서 포트가 다른 앱 컨텍스트 3개를 띄워 유저별 라우팅을 확인합니다.
+ */
+class PointClusterTest {
+
+    private static final List<String> NODES = List.of("node-1", "node-2", "node-3");
+    private static final int VIRTUAL_NODES = 128;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+    private static final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private static final ConsistentHashRing ring = ConsistentHashRing.of(NODES, VIRTUAL_NODES);
+    private static int[] ports;
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        ports = freePorts(NODES.size() + 1);
+        for (int i = 0; i < NODES.size(); i++) {
+            List<String> args = new ArrayList<>(List.of(
+                    "--server.port=" + ports[i],
+                    "--point.cluster.enabled=true",
+                    "--point.cluster.self=" + NODES.get(i),
+                    "--point.cluster.virtual-nodes=" + VIRTUAL_NODES,
+                    "--point.cluster.forward-timeout-millis=2000"));
+            for (int j = 0; j < NODES.size(); j++) {
+                args.add("--point.cluster.nodes[" + j + "].id=" + NODES.get(j));
+                args.add("--point.cluster.nodes[" + j + "].url=http://localhost:" + ports[j]);
+            }
+            // application.yml 보다 우선하도록 커맨드라인 인자로 넘깁니다.
+            contexts.add(new SpringApplicationBuilder(TddApplication.class)
+                    .run(args.toArray(String[]::new)));
+        }
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    @DisplayName("🟢맡지 않은 노드로 충전해도 담당 노드에만 잔액이 쌓이고, 어느 노드로 조회해도 같은 잔액이 나온다.")
+    public void testForwardToOwner() throws Exception {
+        for (int owner = 0; owner < NODES.size(); owner++) {
+            // given
+            long userId = userOwnedBy(NODES.get(owner), 1_000);
+            int other = (owner + 1) % NODES.size();
+
+            // when
+            HttpResponse<String> charged = send(other, "PATCH", "/point/" + userId + "/charge", "{\"amount\":" + userId + "}", null);
+
+            // then
+            assertEquals(200, charged.statusCode());
+            for (int node = 0; node < NODES.size(); node++) {
+                assertEquals(userId, json(send(node, "GET", "/point/" + userId, null, null)).get("point").asLong());
+                assertEquals(1, json(send(node, "GET", "/point/" + userId + "/histories", null, null)).size());
+
+                long local = json(sendLocal(node, "/point/" + userId)).get("point").asLong();
+                assertEquals(node == owner ? userId : 0L, local);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("🟢전달한 요청에도 Idempotency-Key 가 유지되어, 다른 노드로 재시도해도 한 번만 충전된다.")
+    public void testIdempotencyKeyForwarded() throws Exception {
+        // given
+        long userId = userOwnedBy("node-3", 2_000);
+
+        // when
+        send(0, "PATCH", "/point/" + userId + "/charge", "{\"amount\":5000}", "charge-" + userId);
+        HttpResponse<String> retried = send(1, "PATCH", "/point/" + userId + "/charge", "{\"amount\":5000}", "charge-" + userId);
+
+        // then
+        assertEquals(200, retried.statusCode());
+        assertEquals(5000L, json(retried).get("point").asLong());
+        assertEquals(5000L, json(send(2, "GET", "/point/" + userId, null, null)).get("point").asLong());
+    }
+
+    @Test
+    @DisplayName("🔴다른 노드가 맡은 유저가 섞인 배치 요청은 아무 연산도 처리하지 않고 421 로 응답한다.")
+    public void testBatchWithRemoteUser() throws Exception {
+        // given
+        long localUserId = userOwnedBy("node-1", 5_000);
+        long remoteUserId = userOwnedBy("node-2", 5_000);
+        String batch = "{\"operations\":["
+                + "{\"userId\":" + localUserId + ",\"type\":\"CHARGE\",\"amount\":5000},"
+                + "{\"userId\":" + remoteUserId + ",\"type\":\"CHARGE\",\"amount\":5000}]}";
+
+        // when
+        HttpResponse<String> rejected = send(0, "POST", "/point/batch", batch, null);
+        HttpResponse<String> lookup = send(0, "POST", "/point/lookup", "{\"ids\":[" + localUserId + "," + remoteUserId + "]}", null);
+
+        // then
+        assertEquals(421, rejected.statusCode());
+        assertTrue(json(rejected).get("message").asText().contains(remoteUserId + "=node-2"));
+        assertEquals(421, lookup.statusCode());
+        assertEquals(0L, json(sendLocal(0, "/point/" + localUserId)).get("point").asLong());
+        assertEquals(0L, json(sendLocal(1, "/point/" + remoteUserId)).get("point").asLong());
+
+        // when: 이 노드가 맡은 유저만 보내면 처리한다.
+        HttpResponse<String> accepted = send(0, "POST", "/point/batch",
+                "{\"operations\":[{\"userId\":" + localUserId + ",\"type\":\"CHARGE\",\"amount\":5000}]}", null);
+
+        // then
+        assertEquals(200, accepted.statusCode());
+        assertEquals(5000L, json(sendLocal(0, "/point/" + localUserId)).get("point").asLong());
+    }
+
+    @Test
+    @DisplayName("🔴/actuator/ring, /actuator/hotkeys 는 기본으로 웹에 노출하지 않는다.")
+    public void testManagementEndpointsNotExposed() throws Exception {
+        // when
+        HttpResponse<String> removed = send(0, "DELETE", "/actuator/ring/node-2", null, null);
+        HttpResponse<String> hotKeys = send(0, "GET", "/actuator/hotkeys", null, null);
+        HttpResponse<String> reset = send(0, "DELETE", "/actuator/hotkeys", null, null);
+
+        // then
+        assertEquals(404, removed.statusCode());
+        assertEquals(404, hotKeys.statusCode());
+        assertEquals(404, reset.statusCode());
+        assertTrue(contexts.get(0).getBean(PointRing.class).nodes().containsKey("node-2"));
+    }
+
+    @Test
+    @DisplayName("🔴담당 노드가 응답하지 않으면 503 으로 응답하고, 노드를 빼면 다시 남은 노드가 처리한다.")
+    public void testOwnerUnavailable() throws Exception {
+        // given: node-1 의 링에만 아무도 받지 않는 포트의 node-4 를 더한다.
+        PointRing nodeOneRing = contexts.get(0).getBean(PointRing.class);
+        nodeOneRing.add("node-4", "http://localhost:" + ports[NODES.size()]);
+        ConsistentHashRing added = ring.withNode("node-4");
+        long userId = LongStream.rangeClosed(3_000, 4_000)
+                .filter(id -> added.owner(id).equals("node-4") && !ring.owner(id).equals("node-1"))
+                .findFirst().orElseThrow();
+
+        try {
+            // when
+            HttpResponse<String> unavailable = send(0, "GET", "/point/" + userId, null, null);
+
+            // then
+            assertEquals(503, unavailable.statusCode());
+            assertEquals("503", json(unavailable).get("code").asText());
+        }
+        finally {
+            nodeOneRing.remove("node-4");
+        }
+        assertEquals(200, send(0, "GET", "/point/" + userId, null, null).statusCode());
+    }
+
+    private static long userOwnedBy(String node, long from) {
+        return LongStream.range(from, from + 1_000)
+                .filter(id -> ring.owner(id).equals(node))
+                .findFirst().orElseThrow();
+    }
+
+    private static HttpResponse<String> send(int node, String method, String path, String body, String idempotencyKey) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + ports[node] + path))
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .header("Content-Type", "application/json");
+        if (idempotencyKey != null) {
+            request.header("Idempotency-Key", idempotencyKey);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    // 라우팅을 거치지 않고 그 노드가 가진 잔액을 조회합니다.
+    private static HttpResponse<String> sendLocal(int node, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + ports[node] + path))
+                .header(PointRoutingFilter.FORWARDED_BY, "test")
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static int[] freePorts(int count) throws IOException {
+        List<ServerSocket> sockets = new ArrayList<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                sockets.add(new ServerSocket(0));
+            }
+            return sockets.stream().mapToInt(ServerSocket::getLocalPort).toArray();
+        }
+        finally {
+            for (ServerSocket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+}